@@ -2,11 +2,9 @@ package br.com.dio;
 
 import br.com.dio.gui.SudokuGUI;
 import br.com.dio.model.Board;
-import br.com.dio.model.Space;
+import br.com.dio.model.PuzzleTemplate;
 
 import javax.swing.*;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.stream.Stream;
@@ -122,19 +120,7 @@ public class Main {
          return;
       }
 
-      List<List<Space>> spaces = new ArrayList<>();
-      for (int i = 0; i < BOARD_LIMIT; i++) {
-         spaces.add(new ArrayList<>());
-         for (int j = 0; j < BOARD_LIMIT; j++) {
-            var positionConfig = positions.getOrDefault("%s,%s".formatted(i, j), "0,false");
-            var expected = Integer.parseInt(positionConfig.split(",")[0]);
-            var fixed = Boolean.parseBoolean(positionConfig.split(",")[1]);
-            var currentSpace = new Space(expected, fixed);
-            spaces.get(i).add(currentSpace);
-         }
-      }
-
-      board = new Board(spaces);
+      board = new Board(PuzzleTemplate.fromPositions(positions, BOARD_LIMIT));
       System.out.println("✅ O jogo está pronto para começar");
       showCurrentGame();
    }
@@ -186,8 +172,9 @@ public class Main {
       var args = new Object[81];
       var argPos = 0;
       for (int i = 0; i < BOARD_LIMIT; i++) {
-         for (var col : board.getSpaces()) {
-            args[argPos++] = " " + ((isNull(col.get(i).getActual())) ? " " : col.get(i).getActual());
+         for (int col = 0; col < BOARD_LIMIT; col++) {
+            var actual = board.getActual(col, i);
+            args[argPos++] = " " + ((isNull(actual)) ? " " : actual);
          }
       }
       System.out.println("\n🎮 Seu jogo se encontra da seguinte forma:");
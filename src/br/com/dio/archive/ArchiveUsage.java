@@ -0,0 +1,39 @@
+package br.com.dio.archive;
+
+/**
+ * Ocupação do {@link BoardArchive}. Os números fora do heap são exatos:
+ * cada jogo arquivado usa um slot de {@code slotBytes} e
+ * {@code offHeapReservedBytes} é a capacidade já alocada, incluindo slots
+ * livres. O número do heap é só uma estimativa do overhead do próprio
+ * arquivo (lista de blocos, pilha de slots livres e os objetos
+ * {@code ByteBuffer}/{@code Cleaner} de cada bloco) numa JVM 64 bits com
+ * oops comprimidos; não é medido.
+ */
+public record ArchiveUsage(int parkedGames, int slotBytes, long offHeapReservedBytes, long estimatedHeapBytes) {
+
+    public long offHeapUsedBytes() {
+        return (long) parkedGames * slotBytes;
+    }
+
+    public long offHeapBytesPerGame() {
+        return slotBytes;
+    }
+
+    public long reservedBytesPerGame() {
+        return parkedGames == 0 ? 0 : offHeapReservedBytes / parkedGames;
+    }
+
+    public long estimatedHeapBytesPerGame() {
+        return parkedGames == 0 ? 0 : estimatedHeapBytes / parkedGames;
+    }
+
+    @Override
+    public String toString() {
+        return ("%d jogos arquivados | fora do heap: %d bytes usados (%d/jogo), %d reservados (%d/jogo)"
+                + " | heap estimado: %d bytes (%d/jogo)")
+                .formatted(parkedGames, offHeapUsedBytes(), offHeapBytesPerGame(),
+                        offHeapReservedBytes, reservedBytesPerGame(),
+                        estimatedHeapBytes, estimatedHeapBytesPerGame());
+    }
+
+}
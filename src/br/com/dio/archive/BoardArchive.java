@@ -0,0 +1,202 @@
+package br.com.dio.archive;
+
+import br.com.dio.model.Board;
+import br.com.dio.model.GameStatusEnum;
+import br.com.dio.model.PuzzleTemplate;
+import br.com.dio.model.constraint.StandardRules;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Arquivo fora do heap para jogos parados ou finalizados.
+ * <p>
+ * Cada jogo ocupa um slot de tamanho fixo em blocos de memória direta:
+ * metadados, bitmap das posições fixas e 4 bits por célula para os valores
+ * esperado e atual. O handle devolvido por {@link #park(Board)} carrega o
+ * slot e a geração, de modo que um handle antigo nunca lê um slot reutilizado.
+ * Só aceita tabuleiros 9x9 com as regras clássicas.
+ */
+public class BoardArchive {
+
+    private static final int BOARD_LIMIT = 9;
+    private static final int CELLS = BOARD_LIMIT * BOARD_LIMIT;
+    private static final int NIBBLE_BYTES = (CELLS + 1) / 2;
+
+    private static final int FLAGS_OFFSET = 0;
+    private static final int STATUS_OFFSET = 1;
+    private static final int GENERATION_OFFSET = 4;
+    private static final int FIXED_OFFSET = 8;
+    private static final int EXPECTED_OFFSET = FIXED_OFFSET + (CELLS + 7) / 8;
+    private static final int ACTUAL_OFFSET = EXPECTED_OFFSET + NIBBLE_BYTES;
+    static final int SLOT_SIZE = (ACTUAL_OFFSET + NIBBLE_BYTES + 7) & ~7;
+
+    private static final byte IN_USE = 1;
+    private static final int DEFAULT_SLOTS_PER_CHUNK = 4096;
+    private static final long ARCHIVE_HEADER_BYTES = 40;
+    private static final long CHUNK_OBJECT_BYTES = 64 + 40 + 32;
+
+    private final int slotsPerChunk;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+    private int highWater;
+    private int parked;
+
+    public BoardArchive() {
+        this(DEFAULT_SLOTS_PER_CHUNK);
+    }
+
+    public BoardArchive(final int slotsPerChunk) {
+        if (slotsPerChunk <= 0) {
+            throw new IllegalArgumentException("slotsPerChunk deve ser positivo");
+        }
+        this.slotsPerChunk = slotsPerChunk;
+    }
+
+    public synchronized long park(final Board board) {
+        if (board.getSize() != BOARD_LIMIT) {
+            throw new IllegalArgumentException("O arquivo só suporta tabuleiros %sx%s".formatted(BOARD_LIMIT, BOARD_LIMIT));
+        }
+        if (!board.getConstraints().equals(List.of(StandardRules.INSTANCE))) {
+            // O slot não guarda regras: uma variante voltaria do arquivo como jogo clássico
+            throw new IllegalArgumentException("O arquivo só suporta tabuleiros com as regras clássicas");
+        }
+
+        var slot = allocateSlot();
+        var chunk = chunkOf(slot);
+        var base = baseOf(slot);
+
+        for (int i = FIXED_OFFSET; i < ACTUAL_OFFSET + NIBBLE_BYTES; i++) {
+            chunk.put(base + i, (byte) 0);
+        }
+
+        for (int col = 0; col < BOARD_LIMIT; col++) {
+            for (int row = 0; row < BOARD_LIMIT; row++) {
+                var cell = col * BOARD_LIMIT + row;
+                var actual = board.getActual(col, row);
+                if (board.isFixed(col, row)) {
+                    var fixedIndex = base + FIXED_OFFSET + (cell >>> 3);
+                    chunk.put(fixedIndex, (byte) (chunk.get(fixedIndex) | (1 << (cell & 7))));
+                }
+                putNibble(chunk, base + EXPECTED_OFFSET, cell, board.getExpected(col, row));
+                putNibble(chunk, base + ACTUAL_OFFSET, cell, nonNull(actual) ? actual : 0);
+            }
+        }
+
+        var generation = chunk.getInt(base + GENERATION_OFFSET) + 1;
+        chunk.putInt(base + GENERATION_OFFSET, generation);
+        chunk.put(base + STATUS_OFFSET, (byte) board.getStatus().ordinal());
+        chunk.put(base + FLAGS_OFFSET, IN_USE);
+        parked++;
+
+        return ((long) generation << 32) | slot;
+    }
+
+    public synchronized Board unpark(final long handle) {
+        var slot = checkHandle(handle);
+        var chunk = chunkOf(slot);
+        var base = baseOf(slot);
+
+        var clues = new int[CELLS];
+        var expected = new int[CELLS];
+        for (int cell = 0; cell < CELLS; cell++) {
+            expected[cell] = getNibble(chunk, base + EXPECTED_OFFSET, cell);
+            if ((chunk.get(base + FIXED_OFFSET + (cell >>> 3)) & (1 << (cell & 7))) != 0) {
+                clues[cell] = expected[cell];
+            }
+        }
+
+        // O template é internado, então jogos do mesmo puzzle voltam a compartilhá-lo
+        var board = new Board(PuzzleTemplate.of(clues, expected));
+        for (int cell = 0; cell < CELLS; cell++) {
+            var actual = getNibble(chunk, base + ACTUAL_OFFSET, cell);
+            if (actual != 0) {
+                board.changeValue(cell / BOARD_LIMIT, cell % BOARD_LIMIT, actual);
+            }
+        }
+
+        releaseSlot(slot, chunk, base);
+        return board;
+    }
+
+    public synchronized void discard(final long handle) {
+        var slot = checkHandle(handle);
+        releaseSlot(slot, chunkOf(slot), baseOf(slot));
+    }
+
+    public synchronized GameStatusEnum getStatus(final long handle) {
+        var slot = checkHandle(handle);
+        return GameStatusEnum.values()[chunkOf(slot).get(baseOf(slot) + STATUS_OFFSET)];
+    }
+
+    public synchronized int size() {
+        return parked;
+    }
+
+    public synchronized ArchiveUsage usage() {
+        var reserved = (long) chunks.size() * slotsPerChunk * SLOT_SIZE;
+        // Estimativa, não medição: o próprio arquivo, o int[] de slots livres, o ArrayList
+        // de blocos e, por bloco, DirectByteBuffer + Cleaner + Deallocator
+        var heap = ARCHIVE_HEADER_BYTES + 16L + 4L * freeSlots.length + 24L + 16L + 4L * chunks.size()
+                + CHUNK_OBJECT_BYTES * chunks.size();
+        return new ArchiveUsage(parked, SLOT_SIZE, reserved, heap);
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == chunks.size() * slotsPerChunk) {
+            chunks.add(ByteBuffer.allocateDirect(slotsPerChunk * SLOT_SIZE));
+        }
+        return highWater++;
+    }
+
+    private void releaseSlot(final int slot, final ByteBuffer chunk, final int base) {
+        chunk.put(base + FLAGS_OFFSET, (byte) 0);
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        parked--;
+    }
+
+    private int checkHandle(final long handle) {
+        var slot = (int) handle;
+        var generation = (int) (handle >>> 32);
+        if (slot < 0 || slot >= highWater) {
+            throw new IllegalArgumentException("Handle inválido: " + handle);
+        }
+        var chunk = chunkOf(slot);
+        var base = baseOf(slot);
+        if (chunk.get(base + FLAGS_OFFSET) != IN_USE || chunk.getInt(base + GENERATION_OFFSET) != generation) {
+            throw new IllegalStateException("O jogo %s não está mais arquivado".formatted(handle));
+        }
+        return slot;
+    }
+
+    private ByteBuffer chunkOf(final int slot) {
+        return chunks.get(slot / slotsPerChunk);
+    }
+
+    private int baseOf(final int slot) {
+        return (slot % slotsPerChunk) * SLOT_SIZE;
+    }
+
+    private static void putNibble(final ByteBuffer chunk, final int offset, final int cell, final int value) {
+        var index = offset + (cell >>> 1);
+        var current = chunk.get(index);
+        var shift = (cell & 1) << 2;
+        chunk.put(index, (byte) ((current & ~(0xF << shift)) | ((value & 0xF) << shift)));
+    }
+
+    private static int getNibble(final ByteBuffer chunk, final int offset, final int cell) {
+        return (chunk.get(offset + (cell >>> 1)) >>> ((cell & 1) << 2)) & 0xF;
+    }
+
+}
@@ -0,0 +1,71 @@
+package br.com.dio.bench;
+
+import java.util.Arrays;
+
+/**
+ * Acumula amostras de tempo em nanossegundos e resume a distribuição.
+ * Não é thread-safe: cada thread deve ter a sua e usar {@link #merge}.
+ */
+public class LatencyStats {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private int failures;
+
+    public void record(final long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    public void recordFailure() {
+        failures++;
+    }
+
+    public void merge(final LatencyStats other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.samples[i]);
+        }
+        failures += other.failures;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int failures() {
+        return failures;
+    }
+
+    public long percentile(final double percentile) {
+        if (count == 0) return 0;
+        var sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return at(sorted, percentile);
+    }
+
+    public String summary(final String label) {
+        if (count == 0) {
+            return "%-22s sem amostras (falhas: %d)".formatted(label, failures);
+        }
+        var sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return "%-22s n=%-6d falhas=%-4d min=%s p50=%s p90=%s p99=%s p99.9=%s max=%s".formatted(
+                label, count, failures,
+                format(sorted[0]), format(at(sorted, 50)), format(at(sorted, 90)),
+                format(at(sorted, 99)), format(at(sorted, 99.9)), format(sorted[count - 1]));
+    }
+
+    private long at(final long[] sorted, final double percentile) {
+        var index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))];
+    }
+
+    private static String format(final long nanos) {
+        if (nanos >= 1_000_000_000L) return "%.2fs".formatted(nanos / 1e9);
+        if (nanos >= 1_000_000L) return "%.2fms".formatted(nanos / 1e6);
+        return "%.1fµs".formatted(nanos / 1e3);
+    }
+
+}
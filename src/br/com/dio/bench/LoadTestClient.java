@@ -0,0 +1,136 @@
+package br.com.dio.bench;
+
+import br.com.dio.http.BoardHttpServer;
+import br.com.dio.solver.Puzzle;
+import br.com.dio.solver.PuzzleGenerator;
+import br.com.dio.util.BoardCodec;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Cliente de carga para o {@link BoardHttpServer}: N clientes concorrentes,
+ * cada um numa thread virtual, enviam requisições pequenas em sequência
+ * durante o tempo pedido. Os tabuleiros são partidas parciais de um conjunto
+ * fixo de puzzles, com um erro de vez em quando, para que a validação tenha
+ * conflitos a reportar e o cache de soluções seja exercitado.
+ * <p>
+ * Sem URL o servidor é iniciado no mesmo processo numa porta livre.
+ * <p>
+ * Uso: {@code LoadTestClient [clientes] [segundos] [tabuleiros por requisição] [validate|solve|render] [text|binary] [url]}
+ */
+public class LoadTestClient {
+
+    private static final int PUZZLE_COUNT = 100;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        var clients = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        var seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        var boardsPerRequest = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        var operation = args.length > 3 ? args[3] : "validate";
+        var binary = args.length > 4 && args[4].equals("binary");
+        var embedded = args.length <= 5 ? new BoardHttpServer(0, 256, 500, Runtime.getRuntime().availableProcessors()) : null;
+        if (embedded != null) {
+            embedded.start();
+        }
+        var uri = URI.create((embedded != null ? "http://localhost:" + embedded.getPort() : args[5]) + "/" + operation);
+
+        List<Puzzle> puzzles = new ArrayList<>();
+        var generator = new PuzzleGenerator();
+        for (int i = 0; i < PUZZLE_COUNT; i++) {
+            puzzles.add(generator.generate(i));
+        }
+
+        var http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        var done = new CountDownLatch(clients);
+        List<LatencyStats> stats = new ArrayList<>();
+        var warmupEnd = System.nanoTime() + 2_000_000_000L;
+        var end = warmupEnd + seconds * 1_000_000_000L;
+
+        for (int c = 0; c < clients; c++) {
+            var clientStats = new LatencyStats();
+            stats.add(clientStats);
+            var seed = (long) c;
+            Thread.ofVirtual().name("cliente-" + c).start(() -> {
+                var random = new SplittableRandom(seed);
+                try {
+                    while (System.nanoTime() < end) {
+                        var request = HttpRequest.newBuilder(uri)
+                                .header("Content-Type", binary ? "application/octet-stream" : "text/plain")
+                                .POST(binary
+                                        ? HttpRequest.BodyPublishers.ofByteArray(binaryBody(puzzles, random, boardsPerRequest))
+                                        : HttpRequest.BodyPublishers.ofString(textBody(puzzles, random, boardsPerRequest)))
+                                .build();
+                        var start = System.nanoTime();
+                        var response = http.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+                        if (start < warmupEnd) continue;
+
+                        if (response.statusCode() == 200) {
+                            clientStats.record(System.nanoTime() - start);
+                        } else {
+                            clientStats.recordFailure();
+                        }
+                    }
+                } catch (IOException | InterruptedException e) {
+                    clientStats.recordFailure();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+
+        var total = new LatencyStats();
+        stats.forEach(total::merge);
+        System.out.printf("%d clientes, %d tabuleiros por requisição, %s (%s), %ds%n",
+                clients, boardsPerRequest, operation, binary ? "binário" : "texto", seconds);
+        System.out.printf("%.0f requisições/s, %.0f tabuleiros/s%n",
+                total.count() / (double) seconds, total.count() * (double) boardsPerRequest / seconds);
+        System.out.println(total.summary("latência"));
+
+        if (embedded != null) {
+            embedded.close();
+        }
+    }
+
+    private static int[][] partialGame(final List<Puzzle> puzzles, final SplittableRandom random) {
+        var puzzle = puzzles.get(random.nextInt(puzzles.size()));
+        var values = new int[puzzle.clues().length];
+        var filled = random.nextDouble();
+        for (int cell = 0; cell < values.length; cell++) {
+            if (puzzle.clues()[cell] == 0 && random.nextDouble() < filled) {
+                values[cell] = random.nextInt(40) == 0 ? random.nextInt(9) + 1 : puzzle.solution()[cell];
+            }
+        }
+        return new int[][]{puzzle.clues(), values};
+    }
+
+    private static String textBody(final List<Puzzle> puzzles, final SplittableRandom random, final int boards) {
+        var body = new StringBuilder();
+        for (int i = 0; i < boards; i++) {
+            var game = partialGame(puzzles, random);
+            body.append(BoardCodec.format(game[0])).append(';').append(BoardCodec.format(game[1])).append('\n');
+        }
+        return body.toString();
+    }
+
+    private static byte[] binaryBody(final List<Puzzle> puzzles, final SplittableRandom random, final int boards) {
+        var body = new byte[boards * BoardHttpServer.RECORD_BYTES];
+        for (int i = 0; i < boards; i++) {
+            var game = partialGame(puzzles, random);
+            var offset = i * BoardHttpServer.RECORD_BYTES;
+            BoardCodec.packNibbles(game[0], body, offset);
+            BoardCodec.packNibbles(game[1], body, offset + BoardHttpServer.NIBBLE_BYTES);
+        }
+        return body;
+    }
+
+}
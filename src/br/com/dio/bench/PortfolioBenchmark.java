@@ -0,0 +1,94 @@
+package br.com.dio.bench;
+
+import br.com.dio.solver.AnnealingSolver;
+import br.com.dio.solver.BacktrackingSolver;
+import br.com.dio.solver.ExactCoverSolver;
+import br.com.dio.solver.LogicSolver;
+import br.com.dio.solver.PortfolioSolver;
+import br.com.dio.solver.Puzzle;
+import br.com.dio.solver.PuzzleGenerator;
+import br.com.dio.solver.SolverStrategy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latência de resolução (p50/p99/p99.9) de cada estratégia isolada contra o
+ * portfólio, nas mesmas entradas: puzzles 9x9 de solução única e 16x16
+ * esparsos. Cada estratégia isolada tem o mesmo limite de tempo; estourar o
+ * limite ou desistir conta como falha.
+ * <p>
+ * Uso: {@code PortfolioBenchmark [puzzles 9x9] [puzzles 16x16] [threads do portfólio] [limite ms]}
+ */
+public class PortfolioBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        var small = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        var large = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        var parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        var limitMillis = args.length > 3 ? Long.parseLong(args[3]) : 5_000;
+
+        List<Puzzle> puzzles = new ArrayList<>();
+        var generator = new PuzzleGenerator();
+        for (int i = 0; i < small; i++) {
+            puzzles.add(generator.generate(i));
+        }
+        var largeGenerator = new PuzzleGenerator(16);
+        for (int i = 0; i < large; i++) {
+            puzzles.add(largeGenerator.generateSparse(i, 0.45));
+        }
+
+        Map<String, SolverStrategy> engines = new LinkedHashMap<>();
+        for (var engine : List.of(new LogicSolver(), new BacktrackingSolver(), new ExactCoverSolver(), new AnnealingSolver(1, 42))) {
+            engines.put(engine.name(), engine);
+        }
+
+        System.out.printf("%d puzzles 9x9 + %d puzzles 16x16, portfólio com %d threads, limite de %d ms%n",
+                small, large, parallelism, limitMillis);
+
+        // Aquecimento do JIT com os 9x9
+        for (var engine : engines.values()) {
+            for (int i = 0; i < Math.min(small, 50); i++) {
+                var deadline = System.nanoTime() + limitMillis * 1_000_000L;
+                engine.solve(puzzles.get(i).clues(), () -> System.nanoTime() > deadline);
+            }
+        }
+
+        for (var engine : engines.values()) {
+            var stats = new LatencyStats();
+            for (var puzzle : puzzles) {
+                var start = System.nanoTime();
+                var deadline = start + limitMillis * 1_000_000L;
+                var solution = engine.solve(puzzle.clues(), () -> System.nanoTime() > deadline);
+                if (solution == null) {
+                    stats.recordFailure();
+                } else {
+                    stats.record(System.nanoTime() - start);
+                }
+            }
+            System.out.println(stats.summary(engine.name()));
+        }
+
+        try (var portfolio = new PortfolioSolver(parallelism)) {
+            for (int i = 0; i < Math.min(small, 50); i++) {
+                portfolio.solve(puzzles.get(i).clues());
+            }
+            var stats = new LatencyStats();
+            Map<String, Integer> wins = new LinkedHashMap<>();
+            for (var puzzle : puzzles) {
+                var result = portfolio.solve(puzzle.clues());
+                if (result.solution() == null) {
+                    stats.recordFailure();
+                } else {
+                    stats.record(result.nanos());
+                    wins.merge(result.strategy(), 1, Integer::sum);
+                }
+            }
+            System.out.println(stats.summary("portfólio"));
+            System.out.println("vitórias por estratégia: " + wins);
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package br.com.dio.bench;
+
+import br.com.dio.model.Board;
+import br.com.dio.model.PuzzleTemplate;
+import br.com.dio.model.Space;
+import br.com.dio.solver.PuzzleGenerator;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mede a memória por sessão de N jogadores no mesmo puzzle: a estrutura
+ * antiga (uma {@code List<List<Space>>} por jogador, como Main e SudokuGUI
+ * montavam) contra {@link Board} sobre um {@link PuzzleTemplate} compartilhado.
+ * <p>
+ * Uso: {@code SessionMemoryBenchmark [sessões]} (padrão 100000). Rode com
+ * heap folgado, por exemplo {@code -Xmx2g}.
+ */
+public class SessionMemoryBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        var sessions = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        var puzzle = new PuzzleGenerator().generate(1);
+        var clues = puzzle.clues();
+        var solution = puzzle.solution();
+        var size = 9;
+
+        var baseline = usedMemory();
+        List<Object> perPlayerSpaces = new ArrayList<>(sessions);
+        for (int s = 0; s < sessions; s++) {
+            List<List<Space>> spaces = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                spaces.add(new ArrayList<>());
+                for (int j = 0; j < size; j++) {
+                    var cell = i * size + j;
+                    spaces.get(i).add(new Space(solution[cell], clues[cell] != 0));
+                }
+            }
+            perPlayerSpaces.add(spaces);
+        }
+        var before = usedMemory() - baseline;
+        Reference.reachabilityFence(perPlayerSpaces);
+        perPlayerSpaces = null;
+
+        baseline = usedMemory();
+        List<Board> boards = new ArrayList<>(sessions);
+        for (int s = 0; s < sessions; s++) {
+            boards.add(new Board(PuzzleTemplate.of(clues, solution)));
+        }
+        var after = usedMemory() - baseline;
+        Reference.reachabilityFence(boards);
+
+        System.out.printf("%d sessões no mesmo puzzle%n", sessions);
+        System.out.printf("antes  (List<List<Space>> por jogador): %,d bytes (%d bytes/sessão)%n", before, before / sessions);
+        System.out.printf("depois (template + valores do jogador): %,d bytes (%d bytes/sessão)%n", after, after / sessions);
+        System.out.printf("templates distintos em memória: %d%n", PuzzleTemplate.internedCount());
+    }
+
+    private static long usedMemory() throws InterruptedException {
+        var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,78 @@
+package br.com.dio.bench;
+
+import br.com.dio.solver.AnnealingSolver;
+import br.com.dio.solver.BacktrackingSolver;
+import br.com.dio.solver.Puzzle;
+import br.com.dio.solver.PuzzleGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compara o tempo até a solução da busca exata e do annealing paralelo nas
+ * mesmas entradas.
+ * <p>
+ * Uso: {@code SolverBenchmark <tamanho> <puzzles> <proporção de pistas> <limite ms> [repetições]}
+ * <br>Exemplo: {@code SolverBenchmark 16 20 0.35 30000 3}
+ */
+public class SolverBenchmark {
+
+    public static void main(String[] args) {
+        var size = args.length > 0 ? Integer.parseInt(args[0]) : 9;
+        var puzzleCount = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        var clueRatio = args.length > 2 ? Double.parseDouble(args[2]) : 0.35;
+        var limitMillis = args.length > 3 ? Long.parseLong(args[3]) : 10_000;
+        var repetitions = args.length > 4 ? Integer.parseInt(args[4]) : 3;
+
+        var generator = new PuzzleGenerator(size);
+        List<Puzzle> puzzles = new ArrayList<>();
+        for (int i = 0; i < puzzleCount; i++) {
+            puzzles.add(generator.generateSparse(i, clueRatio));
+        }
+
+        System.out.printf("%d puzzles %dx%d, %.0f%% de pistas, limite de %d ms, %d repetições, %d núcleos%n",
+                puzzleCount, size, size, clueRatio * 100, limitMillis, repetitions,
+                Runtime.getRuntime().availableProcessors());
+
+        var exact = new LatencyStats();
+        var annealing = new LatencyStats();
+        for (int rep = 0; rep < repetitions; rep++) {
+            for (int i = 0; i < puzzles.size(); i++) {
+                var clues = puzzles.get(i).clues();
+                var seed = rep * 7919L + i;
+                measure(exact, clues, limitMillis, (c, deadline) ->
+                        new BacktrackingSolver().solve(c, () -> System.nanoTime() > deadline));
+                measure(annealing, clues, limitMillis, (c, deadline) ->
+                        new AnnealingSolver(Runtime.getRuntime().availableProcessors(), seed)
+                                .solve(c, () -> System.nanoTime() > deadline));
+            }
+        }
+
+        System.out.println(exact.summary("backtracking (MRV)"));
+        System.out.println(annealing.summary("annealing paralelo"));
+    }
+
+    private interface Attempt {
+        int[] solve(int[] clues, long deadline);
+    }
+
+    private static void measure(final LatencyStats stats, final int[] clues, final long limitMillis, final Attempt attempt) {
+        var start = System.nanoTime();
+        var solution = attempt.solve(clues, start + limitMillis * 1_000_000L);
+        var elapsed = System.nanoTime() - start;
+        if (solution != null && isValid(clues, solution)) {
+            stats.record(elapsed);
+        } else {
+            stats.recordFailure();
+        }
+    }
+
+    private static boolean isValid(final int[] clues, final int[] solution) {
+        for (int i = 0; i < clues.length; i++) {
+            if (clues[i] != 0 && clues[i] != solution[i]) return false;
+        }
+        // Com a grade completa a busca só confirma que não há repetições
+        return new BacktrackingSolver().countSolutions(solution, 1) == 1;
+    }
+
+}
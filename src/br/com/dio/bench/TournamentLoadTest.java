@@ -0,0 +1,116 @@
+package br.com.dio.bench;
+
+import br.com.dio.model.PuzzleTemplate;
+import br.com.dio.solver.PuzzleGenerator;
+import br.com.dio.tournament.Tournament;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Simula N jogadores resolvendo o mesmo puzzle ao mesmo tempo enquanto
+ * outras threads consultam o top-10 e a posição de jogadores aleatórios.
+ * O relógio do torneio é acelerado (1µs real = 100ms de jogo) para que os
+ * tempos de conclusão se espalhem como numa competição de verdade.
+ * <p>
+ * Uso: {@code TournamentLoadTest [jogadores] [threads de jogo] [threads de consulta]}
+ */
+public class TournamentLoadTest {
+
+    public static void main(String[] args) throws InterruptedException {
+        var playerCount = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        var playThreads = args.length > 1 ? Integer.parseInt(args[1]) : Math.max(4, Runtime.getRuntime().availableProcessors());
+        var queryThreads = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+
+        var puzzle = new PuzzleGenerator().generate(2026);
+        var template = PuzzleTemplate.of(puzzle.clues(), puzzle.solution());
+        var size = template.getSize();
+
+        var origin = Instant.now();
+        var nanoOrigin = System.nanoTime();
+        InstantSource acceleratedClock = () -> origin.plusMillis((System.nanoTime() - nanoOrigin) / 10);
+        var tournament = new Tournament(template, acceleratedClock, Duration.ofSeconds(30), Duration.ofMinutes(20));
+
+        var playersDone = new CountDownLatch(playThreads);
+        var queriesDone = new CountDownLatch(queryThreads);
+        var stop = new AtomicBoolean();
+        List<LatencyStats> topStats = new ArrayList<>();
+        List<LatencyStats> rankStats = new ArrayList<>();
+
+        var started = System.nanoTime();
+        for (int t = 0; t < playThreads; t++) {
+            var first = t;
+            new Thread(() -> {
+                var random = new SplittableRandom(first);
+                for (int p = first; p < playerCount; p += playThreads) {
+                    var playerId = "jogador-" + p;
+                    tournament.join(playerId);
+                    for (int cell = 0; cell < size * size; cell++) {
+                        if (template.isFixed(cell)) continue;
+
+                        var col = cell / size;
+                        var row = cell % size;
+                        var expected = template.getExpected(cell);
+                        if (random.nextInt(50) == 0) {
+                            tournament.play(playerId, col, row, expected % size + 1);
+                        }
+                        tournament.play(playerId, col, row, expected);
+                    }
+                    tournament.submit(playerId);
+                }
+                playersDone.countDown();
+            }, "jogadores-" + t).start();
+        }
+
+        for (int t = 0; t < queryThreads; t++) {
+            var top = new LatencyStats();
+            var rank = new LatencyStats();
+            topStats.add(top);
+            rankStats.add(rank);
+            var seed = 1000L + t;
+            new Thread(() -> {
+                var random = new SplittableRandom(seed);
+                while (!stop.get()) {
+                    var start = System.nanoTime();
+                    tournament.top(10);
+                    top.record(System.nanoTime() - start);
+
+                    var playerId = "jogador-" + random.nextInt(playerCount);
+                    start = System.nanoTime();
+                    tournament.rankOf(playerId);
+                    rank.record(System.nanoTime() - start);
+                }
+                queriesDone.countDown();
+            }, "consultas-" + t).start();
+        }
+
+        playersDone.await();
+        var elapsed = System.nanoTime() - started;
+        stop.set(true);
+        queriesDone.await();
+
+        var top = new LatencyStats();
+        var rank = new LatencyStats();
+        topStats.forEach(top::merge);
+        rankStats.forEach(rank::merge);
+
+        System.out.printf("%d jogadores, %d threads de jogo, %d threads de consulta%n", playerCount, playThreads, queryThreads);
+        System.out.printf("%d conclusões em %d ms: %.0f conclusões/s%n",
+                tournament.finishedCount(), elapsed / 1_000_000, tournament.finishedCount() / (elapsed / 1e9));
+        System.out.println(top.summary("top-10"));
+        System.out.println(rank.summary("posição do jogador"));
+        System.out.println("Top 5:");
+        for (var standing : tournament.top(5)) {
+            System.out.printf("  %d. %s  tempo=%dms  erros=%d  pontuação=%d%n",
+                    tournament.rankOf(standing.playerId()), standing.playerId(),
+                    standing.elapsedMillis(), standing.errors(), standing.score());
+        }
+    }
+
+}
@@ -0,0 +1,6 @@
+package br.com.dio.cluster;
+
+import java.util.List;
+
+public record Chunk(int index, ChunkType type, List<String> payload) {
+}
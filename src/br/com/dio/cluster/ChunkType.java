@@ -0,0 +1,64 @@
+package br.com.dio.cluster;
+
+import br.com.dio.solver.BacktrackingSolver;
+import br.com.dio.solver.PuzzleGenerator;
+import br.com.dio.util.BoardCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public enum ChunkType {
+
+    /**
+     * Cada linha do payload é uma faixa "primeira,última" de sementes; a
+     * resposta é uma linha "pistas;solução" por semente.
+     */
+    GENERATE {
+        @Override
+        List<String> process(final List<String> payload) {
+            var generator = new PuzzleGenerator();
+            List<String> results = new ArrayList<>();
+            for (var line : payload) {
+                var range = line.split(",");
+                var last = Long.parseLong(range[1]);
+                for (var seed = Long.parseLong(range[0]); seed <= last; seed++) {
+                    results.add(generator.generate(seed).toLine());
+                }
+            }
+            return results;
+        }
+    },
+
+    /**
+     * Cada linha do payload é um puzzle compacto, só as pistas ou no formato
+     * "pistas;solução" gerado por {@link #GENERATE} (a solução é ignorada).
+     * A resposta é "solução;unique" ou "solução;multiple", "-" quando não há
+     * solução e "error=..." para uma linha inválida, sempre uma por entrada.
+     */
+    SOLVE {
+        @Override
+        List<String> process(final List<String> payload) {
+            var solver = new BacktrackingSolver();
+            List<String> results = new ArrayList<>(payload.size());
+            for (var line : payload) {
+                try {
+                    var separator = line.indexOf(';');
+                    var cells = BoardCodec.parse(separator < 0 ? line : line.substring(0, separator));
+                    var solution = solver.solve(cells);
+                    if (solution == null) {
+                        results.add("-");
+                    } else {
+                        var unique = solver.countSolutions(cells, 2) == 1;
+                        results.add(BoardCodec.format(solution) + (unique ? ";unique" : ";multiple"));
+                    }
+                } catch (IllegalArgumentException e) {
+                    results.add("error=" + e.getMessage());
+                }
+            }
+            return results;
+        }
+    };
+
+    abstract List<String> process(List<String> payload);
+
+}
@@ -0,0 +1,283 @@
+package br.com.dio.cluster;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Divide um trabalho em chunks e os entrega a workers conectados por TCP.
+ * Um chunk entregue a um worker que cai, fecha a conexão ou não responde
+ * dentro do prazo volta para o início da fila. Resultados duplicados são
+ * ignorados e o resultado final é montado na ordem dos chunks. Um chunk que
+ * falha {@value #MAX_ATTEMPTS} vezes, seja por erro no processamento ou por
+ * derrubar os workers, encerra o trabalho com erro em vez de circular para
+ * sempre entre eles.
+ */
+public class Coordinator implements AutoCloseable {
+
+    private static final long DEFAULT_LEASE_MILLIS = 60_000;
+    private static final long POLL_MILLIS = 250;
+    static final int MAX_ATTEMPTS = 3;
+
+    private final List<Chunk> chunks;
+    private final long leaseMillis;
+    private final BlockingDeque<Chunk> pending;
+    private final AtomicReferenceArray<List<String>> results;
+    private final CountDownLatch remaining;
+    private final AtomicIntegerArray attempts;
+    private volatile String failure;
+    private final ExecutorService connections = Executors.newCachedThreadPool();
+    private ServerSocket server;
+
+    public Coordinator(final List<Chunk> chunks) {
+        this(chunks, DEFAULT_LEASE_MILLIS);
+    }
+
+    public Coordinator(final List<Chunk> chunks, final long leaseMillis) {
+        this.chunks = List.copyOf(chunks);
+        this.leaseMillis = leaseMillis;
+        this.pending = new LinkedBlockingDeque<>(this.chunks);
+        this.results = new AtomicReferenceArray<>(this.chunks.size());
+        this.remaining = new CountDownLatch(this.chunks.size());
+        this.attempts = new AtomicIntegerArray(this.chunks.size());
+    }
+
+    public static List<Chunk> generateChunks(final long firstSeed, final long count, final int chunkSize) {
+        List<Chunk> chunks = new ArrayList<>();
+        for (long start = firstSeed; start < firstSeed + count; start += chunkSize) {
+            var end = Math.min(start + chunkSize, firstSeed + count) - 1;
+            chunks.add(new Chunk(chunks.size(), ChunkType.GENERATE, List.of(start + "," + end)));
+        }
+        return chunks;
+    }
+
+    public static List<Chunk> solveChunks(final List<String> puzzles, final int chunkSize) {
+        List<Chunk> chunks = new ArrayList<>();
+        for (int start = 0; start < puzzles.size(); start += chunkSize) {
+            var segment = puzzles.subList(start, Math.min(start + chunkSize, puzzles.size()));
+            chunks.add(new Chunk(chunks.size(), ChunkType.SOLVE, List.copyOf(segment)));
+        }
+        return chunks;
+    }
+
+    public int start(final int port) throws IOException {
+        server = new ServerSocket(port);
+        var acceptor = new Thread(this::acceptLoop, "coordinator-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return server.getLocalPort();
+    }
+
+    public List<String> awaitResults() throws InterruptedException {
+        remaining.await();
+        if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+        List<String> merged = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            merged.addAll(results.get(i));
+        }
+        return merged;
+    }
+
+    public long completedChunks() {
+        return chunks.size() - remaining.getCount();
+    }
+
+    public int totalChunks() {
+        return chunks.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (server != null) {
+            server.close();
+        }
+        connections.shutdown();
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                var socket = server.accept();
+                connections.execute(() -> serve(socket));
+            } catch (SocketException e) {
+                return;
+            } catch (IOException e) {
+                System.out.println("Falha ao aceitar worker: " + e.getMessage());
+            }
+        }
+    }
+
+    private void serve(final Socket socket) {
+        Chunk assigned = null;
+        var worker = socket.getRemoteSocketAddress();
+        try (socket;
+             var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+             var writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), UTF_8))) {
+            socket.setSoTimeout((int) leaseMillis);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.equals(Protocol.PULL)) {
+                    if (remaining.getCount() == 0) {
+                        Protocol.writeLine(writer, Protocol.DONE);
+                        return;
+                    }
+                    assigned = nextPending();
+                    if (assigned == null) {
+                        Protocol.writeLine(writer, Protocol.WAIT);
+                    } else {
+                        Protocol.writeChunk(writer, assigned);
+                    }
+                } else if (line.startsWith(Protocol.RESULT)) {
+                    var parts = line.split(" ");
+                    var index = Integer.parseInt(parts[1]);
+                    var lines = Protocol.readLines(reader, Integer.parseInt(parts[2]));
+                    complete(index, lines);
+                    assigned = null;
+                } else if (line.startsWith(Protocol.FAIL) && assigned != null) {
+                    var parts = line.split(" ", 3);
+                    System.out.printf("Chunk %d falhou em %s: %s%n", assigned.index(), worker,
+                            parts.length > 2 ? parts[2] : "");
+                    release(assigned);
+                    assigned = null;
+                } else {
+                    System.out.printf("Mensagem inválida de %s: %s%n", worker, line);
+                    return;
+                }
+            }
+        } catch (SocketTimeoutException e) {
+            System.out.printf("Worker %s excedeu o prazo de %d ms%n", worker, leaseMillis);
+        } catch (IOException | RuntimeException e) {
+            System.out.printf("Conexão com worker %s perdida: %s%n", worker, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (assigned != null) {
+                release(assigned);
+            }
+        }
+    }
+
+    private void release(final Chunk chunk) {
+        if (results.get(chunk.index()) != null || failure != null) return;
+
+        var attempt = attempts.incrementAndGet(chunk.index());
+        if (attempt < MAX_ATTEMPTS) {
+            System.out.printf("Chunk %d devolvido para a fila (tentativa %d de %d)%n", chunk.index(), attempt, MAX_ATTEMPTS);
+            pending.addFirst(chunk);
+            return;
+        }
+        failure = "Chunk %d falhou %d vezes; trabalho abortado".formatted(chunk.index(), attempt);
+        System.out.println(failure);
+        // Libera awaitResults() e faz os workers receberem DONE no próximo PULL
+        while (remaining.getCount() > 0) {
+            remaining.countDown();
+        }
+    }
+
+    private Chunk nextPending() throws InterruptedException {
+        Chunk chunk;
+        do {
+            chunk = pending.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        } while (chunk != null && results.get(chunk.index()) != null);
+        return chunk;
+    }
+
+    private void complete(final int index, final List<String> lines) {
+        if (results.compareAndSet(index, null, lines)) {
+            remaining.countDown();
+        }
+    }
+
+    /**
+     * Uso:
+     * <pre>
+     * generate &lt;primeira semente&gt; &lt;quantidade&gt; [opções]
+     * solve &lt;arquivo com um puzzle por linha&gt; [opções]
+     *
+     * --port=N       porta de escuta (padrão 7070)
+     * --chunk=N      itens por chunk (padrão 50)
+     * --workers=N    inicia N workers locais nesta máquina (padrão 0)
+     * --lease=MS     prazo para um worker devolver o chunk
+     * --out=ARQUIVO  grava o resultado em arquivo em vez da saída padrão
+     * </pre>
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Uso: generate <primeira semente> <quantidade> | solve <arquivo> [--port=N] [--chunk=N] [--workers=N] [--lease=MS] [--out=ARQUIVO]");
+            System.exit(1);
+        }
+
+        var port = Integer.parseInt(option(args, "port", "7070"));
+        var chunkSize = Integer.parseInt(option(args, "chunk", "50"));
+        var localWorkers = Integer.parseInt(option(args, "workers", "0"));
+        var lease = Long.parseLong(option(args, "lease", String.valueOf(DEFAULT_LEASE_MILLIS)));
+        var out = option(args, "out", null);
+
+        var chunks = switch (args[0]) {
+            case "generate" -> generateChunks(Long.parseLong(args[1]), Long.parseLong(args[2]), chunkSize);
+            case "solve" -> solveChunks(Files.readAllLines(Path.of(args[1]), UTF_8).stream()
+                    .map(String::trim)
+                    .filter(l -> !l.isEmpty())
+                    .toList(), chunkSize);
+            default -> throw new IllegalArgumentException("Modo desconhecido: " + args[0]);
+        };
+
+        List<Process> processes = new ArrayList<>();
+        try (var coordinator = new Coordinator(chunks, lease)) {
+            var boundPort = coordinator.start(port);
+            System.out.printf("Coordenador escutando na porta %d com %d chunks%n", boundPort, chunks.size());
+            for (int i = 0; i < localWorkers; i++) {
+                processes.add(Worker.spawnLocal("localhost", boundPort));
+            }
+
+            var started = System.nanoTime();
+            var results = coordinator.awaitResults();
+            System.out.printf("%d resultados em %d ms%n", results.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+            if (out == null) {
+                results.forEach(System.out::println);
+            } else {
+                Files.write(Path.of(out), results, UTF_8);
+            }
+        } finally {
+            for (var process : processes) {
+                process.waitFor(5, TimeUnit.SECONDS);
+                process.destroy();
+            }
+        }
+    }
+
+    private static String option(final String[] args, final String name, final String defaultValue) {
+        var prefix = "--" + name + "=";
+        for (var arg : args) {
+            if (arg.startsWith(prefix)) {
+                return arg.substring(prefix.length());
+            }
+        }
+        return defaultValue;
+    }
+
+}
@@ -0,0 +1,77 @@
+package br.com.dio.cluster;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Protocolo texto, uma mensagem por linha em UTF-8:
+ * <pre>
+ * worker      -> PULL
+ * coordenador -> CHUNK &lt;índice&gt; &lt;tipo&gt; &lt;linhas&gt;  seguido das linhas do payload
+ *              | WAIT   nada disponível agora, peça de novo
+ *              | DONE   trabalho concluído, encerre
+ * worker      -> RESULT &lt;índice&gt; &lt;linhas&gt;       seguido das linhas do resultado
+ *              | FAIL &lt;índice&gt; &lt;mensagem&gt;     o chunk falhou neste worker
+ * </pre>
+ */
+final class Protocol {
+
+    static final String PULL = "PULL";
+    static final String CHUNK = "CHUNK";
+    static final String WAIT = "WAIT";
+    static final String DONE = "DONE";
+    static final String RESULT = "RESULT";
+    static final String FAIL = "FAIL";
+
+    private Protocol() {}
+
+    static void writeChunk(final Writer writer, final Chunk chunk) throws IOException {
+        writer.write("%s %d %s %d\n".formatted(CHUNK, chunk.index(), chunk.type(), chunk.payload().size()));
+        writeLines(writer, chunk.payload());
+    }
+
+    static Chunk readChunk(final String header, final BufferedReader reader) throws IOException {
+        var parts = header.split(" ");
+        var lines = readLines(reader, Integer.parseInt(parts[3]));
+        return new Chunk(Integer.parseInt(parts[1]), ChunkType.valueOf(parts[2]), lines);
+    }
+
+    static void writeResult(final Writer writer, final int index, final List<String> lines) throws IOException {
+        writer.write("%s %d %d\n".formatted(RESULT, index, lines.size()));
+        writeLines(writer, lines);
+    }
+
+    static void writeFailure(final Writer writer, final int index, final String message) throws IOException {
+        writeLine(writer, "%s %d %s".formatted(FAIL, index, String.valueOf(message).replace('\n', ' ')));
+    }
+
+    static void writeLine(final Writer writer, final String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+        writer.flush();
+    }
+
+    static List<String> readLines(final BufferedReader reader, final int count) throws IOException {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            var line = reader.readLine();
+            if (line == null) {
+                throw new IOException("Conexão encerrada no meio de uma mensagem");
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private static void writeLines(final Writer writer, final List<String> lines) throws IOException {
+        for (var line : lines) {
+            writer.write(line);
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+}
@@ -0,0 +1,86 @@
+package br.com.dio.cluster;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Worker sem estado: pede chunks ao coordenador, processa e devolve o
+ * resultado até receber DONE ou a conexão ser encerrada.
+ */
+public class Worker {
+
+    private static final int CONNECT_ATTEMPTS = 20;
+    private static final long CONNECT_BACKOFF_MILLIS = 250;
+
+    private final String host;
+    private final int port;
+
+    public Worker(final String host, final int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public int run() throws IOException, InterruptedException {
+        var processed = 0;
+        try (var socket = connect();
+             var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+             var writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), UTF_8))) {
+            while (true) {
+                Protocol.writeLine(writer, Protocol.PULL);
+                var header = reader.readLine();
+                if (header == null || header.equals(Protocol.DONE)) {
+                    return processed;
+                }
+                if (header.equals(Protocol.WAIT)) continue;
+
+                var chunk = Protocol.readChunk(header, reader);
+                List<String> result;
+                try {
+                    result = chunk.type().process(chunk.payload());
+                } catch (RuntimeException e) {
+                    // Devolve o chunk em vez de derrubar o worker; o coordenador decide se tenta de novo
+                    Protocol.writeFailure(writer, chunk.index(), e.toString());
+                    continue;
+                }
+                Protocol.writeResult(writer, chunk.index(), result);
+                processed++;
+            }
+        }
+    }
+
+    private Socket connect() throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return new Socket(host, port);
+            } catch (ConnectException e) {
+                if (attempt == CONNECT_ATTEMPTS) throw e;
+                Thread.sleep(CONNECT_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    static Process spawnLocal(final String host, final int port) throws IOException {
+        var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                Worker.class.getName(), host, String.valueOf(port))
+                .inheritIO()
+                .start();
+    }
+
+    public static void main(String[] args) throws Exception {
+        var host = args.length > 0 ? args[0] : "localhost";
+        var port = args.length > 1 ? Integer.parseInt(args[1]) : 7070;
+        var processed = new Worker(host, port).run();
+        System.out.printf("Worker %d encerrado após %d chunks%n", ProcessHandle.current().pid(), processed);
+    }
+
+}
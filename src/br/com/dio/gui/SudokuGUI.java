@@ -1,15 +1,13 @@
 package br.com.dio.gui;
 
 import br.com.dio.model.Board;
-import br.com.dio.model.Space;
+import br.com.dio.model.PuzzleTemplate;
 
 import javax.swing.*;
 import java.awt.*;
 
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -171,19 +169,7 @@ public class SudokuGUI extends JFrame {
       // Configuração padrão de um Sudoku simples
       Map<String, String> positions = getDefaultSudokuConfiguration();
 
-      List<List<Space>> spaces = new ArrayList<>();
-      for (int i = 0; i < BOARD_SIZE; i++) {
-         spaces.add(new ArrayList<>());
-         for (int j = 0; j < BOARD_SIZE; j++) {
-            var positionConfig = positions.getOrDefault("%s,%s".formatted(i, j), "0,false");
-            var expected = Integer.parseInt(positionConfig.split(",")[0]);
-            var fixed = Boolean.parseBoolean(positionConfig.split(",")[1]);
-            var currentSpace = new Space(expected, fixed);
-            spaces.get(i).add(currentSpace);
-         }
-      }
-
-      board = new Board(spaces);
+      board = new Board(PuzzleTemplate.fromPositions(positions, BOARD_SIZE));
       updateGUIFromBoard();
 
       checkButton.setEnabled(true);
@@ -216,19 +202,18 @@ public class SudokuGUI extends JFrame {
    private void updateGUIFromBoard() {
       if (isNull(board)) return;
 
-      var spaces = board.getSpaces();
       for (int i = 0; i < BOARD_SIZE; i++) {
          for (int j = 0; j < BOARD_SIZE; j++) {
-            Space space = spaces.get(i).get(j);
             JTextField cell = cells[i][j];
+            var actual = board.getActual(i, j);
 
-            if (space.isFixed()) {
-               cell.setText(String.valueOf(space.getActual()));
+            if (board.isFixed(i, j)) {
+               cell.setText(String.valueOf(actual));
                cell.setEditable(false);
                cell.setBackground(FIXED_CELL_COLOR);
                cell.setFont(new Font("Arial", Font.BOLD, 18));
             } else {
-               cell.setText(nonNull(space.getActual()) ? String.valueOf(space.getActual()) : "");
+               cell.setText(nonNull(actual) ? String.valueOf(actual) : "");
                cell.setEditable(true);
                cell.setBackground(NORMAL_CELL_COLOR);
                cell.setFont(new Font("Arial", Font.PLAIN, 18));
@@ -260,14 +245,13 @@ public class SudokuGUI extends JFrame {
    private void updateCellColors() {
       if (isNull(board)) return;
 
-      var spaces = board.getSpaces();
       for (int i = 0; i < BOARD_SIZE; i++) {
          for (int j = 0; j < BOARD_SIZE; j++) {
-            Space space = spaces.get(i).get(j);
             JTextField cell = cells[i][j];
+            var actual = board.getActual(i, j);
 
-            if (!space.isFixed()) {
-               if (nonNull(space.getActual()) && !space.getActual().equals(space.getExpected())) {
+            if (!board.isFixed(i, j)) {
+               if (nonNull(actual) && !actual.equals(board.getExpected(i, j))) {
                   cell.setBackground(ERROR_CELL_COLOR);
                } else {
                   cell.setBackground(NORMAL_CELL_COLOR);
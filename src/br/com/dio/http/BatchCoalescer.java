@@ -0,0 +1,118 @@
+package br.com.dio.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Junta itens de várias requisições concorrentes em lotes. Uma thread
+ * despachante espera o primeiro item, recolhe o que chegar até o lote
+ * encher ou o prazo expirar e entrega o lote a um pool de processamento,
+ * que completa o future de cada item.
+ */
+public class BatchCoalescer<I, O> implements AutoCloseable {
+
+    private record Pending<I, O>(I item, CompletableFuture<O> result) {
+    }
+
+    private final BlockingQueue<Pending<I, O>> queue = new LinkedBlockingQueue<>();
+    private final Function<List<I>, List<O>> processor;
+    private final int maxBatch;
+    private final long maxWaitNanos;
+    private final ExecutorService workers;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public BatchCoalescer(final Function<List<I>, List<O>> processor, final int maxBatch,
+                          final long maxWaitMicros, final int workerThreads) {
+        this.processor = processor;
+        this.maxBatch = maxBatch;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.workers = Executors.newFixedThreadPool(workerThreads);
+        this.dispatcher = Thread.ofPlatform().name("coalescer").daemon().start(this::dispatch);
+    }
+
+    public CompletableFuture<O> submit(final I item) {
+        var result = new CompletableFuture<O>();
+        queue.add(new Pending<>(item, result));
+        if (!running) {
+            // Chegou depois do close(): ninguém mais vai despachar este item
+            cancelPending();
+        }
+        return result;
+    }
+
+    public List<CompletableFuture<O>> submitAll(final List<I> items) {
+        List<CompletableFuture<O>> results = new ArrayList<>(items.size());
+        for (var item : items) {
+            results.add(submit(item));
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        dispatcher.interrupt();
+        cancelPending();
+        workers.shutdown();
+    }
+
+    /**
+     * Lotes já entregues ao pool terminam normalmente; itens ainda na fila
+     * são cancelados para não deixar quem espera por eles bloqueado.
+     */
+    private void cancelPending() {
+        List<Pending<I, O>> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        pending.forEach(p -> p.result().cancel(false));
+    }
+
+    private void dispatch() {
+        while (running) {
+            List<Pending<I, O>> batch = new ArrayList<>(maxBatch);
+            try {
+                batch.add(queue.take());
+                var deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatch) {
+                    var remaining = deadline - System.nanoTime();
+                    if (queue.drainTo(batch, maxBatch - batch.size()) == 0) {
+                        if (remaining <= 0) break;
+                        var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) break;
+                        batch.add(next);
+                    }
+                }
+                workers.execute(() -> process(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(p -> p.result().cancel(false));
+                return;
+            } catch (RejectedExecutionException e) {
+                // O close() desligou o pool enquanto o lote era montado
+                batch.forEach(p -> p.result().cancel(false));
+                cancelPending();
+                return;
+            }
+        }
+    }
+
+    private void process(final List<Pending<I, O>> batch) {
+        try {
+            var outputs = processor.apply(batch.stream().map(Pending::item).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(outputs.get(i));
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(p -> p.result().completeExceptionally(e));
+        }
+    }
+
+}
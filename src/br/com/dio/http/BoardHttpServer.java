@@ -0,0 +1,183 @@
+package br.com.dio.http;
+
+import br.com.dio.util.BoardCodec;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * API HTTP sem sessão para validar, resolver e renderizar tabuleiros em lote.
+ * <p>
+ * Cada operação é um {@code POST} em {@code /validate}, {@code /solve} ou
+ * {@code /render}. Com {@code text/plain} o corpo traz um tabuleiro por
+ * linha no formato compacto de {@link BoardCodec}, só as pistas ou
+ * {@code pistas;valores}. Com {@code application/octet-stream} o corpo é uma
+ * sequência de registros 9x9 de {@value #RECORD_BYTES} bytes: 41 bytes de
+ * pistas e 41 de valores, dois valores por byte (posição par no nibble
+ * baixo), como no {@code BoardArchive}. A resposta é sempre texto, uma linha
+ * por tabuleiro na ordem recebida; em {@code /render} os tabuleiros são
+ * separados por uma linha em branco.
+ * <p>
+ * Cada requisição roda numa thread virtual e apenas espera pelos seus
+ * resultados; os tabuleiros de todas as requisições em andamento passam pelo
+ * mesmo {@link BatchCoalescer}, então muitas requisições pequenas viram
+ * poucos lotes grandes.
+ */
+public class BoardHttpServer implements AutoCloseable {
+
+    public static final int NIBBLE_BYTES = 41;
+    public static final int RECORD_BYTES = 2 * NIBBLE_BYTES;
+    private static final int MAX_BOARDS_PER_REQUEST = 10_000;
+    // Salvaguarda: o orçamento de cada lote já limita a espera, este prazo só
+    // evita que uma requisição fique presa se algum future nunca for completado
+    private static final long RESPONSE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    static {
+        // Sem TCP_NODELAY a resposta sai em duas escritas (cabeçalhos e corpo) e,
+        // em conexões keep-alive, o Nagle somado ao ACK atrasado do cliente segura
+        // cada resposta por ~40ms. A propriedade é lida uma vez, no primeiro
+        // HttpServer criado na JVM.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final BatchCoalescer<BoardRequest, String> coalescer;
+
+    public BoardHttpServer(final int port, final int maxBatch, final long maxWaitMicros, final int workerThreads)
+            throws IOException {
+        var service = new BoardService(10_000, 500);
+        this.coalescer = new BatchCoalescer<>(service::process, maxBatch, maxWaitMicros, workerThreads);
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(executor);
+        for (var operation : Operation.values()) {
+            server.createContext(operation.getPath(), exchange -> handle(exchange, operation));
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        coalescer.close();
+        executor.shutdown();
+    }
+
+    private void handle(final HttpExchange exchange, final Operation operation) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().add("Allow", "POST");
+                respond(exchange, 405, "error=use POST");
+                return;
+            }
+
+            var body = exchange.getRequestBody().readAllBytes();
+            var contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            List<BoardRequest> requests;
+            try {
+                requests = contentType != null && contentType.startsWith("application/octet-stream")
+                        ? decodeBinary(operation, body)
+                        : decodeText(operation, body);
+            } catch (IllegalArgumentException e) {
+                respond(exchange, 400, "error=" + e.getMessage());
+                return;
+            }
+            if (requests.size() > MAX_BOARDS_PER_REQUEST) {
+                respond(exchange, 413, "error=máximo de %s tabuleiros por requisição".formatted(MAX_BOARDS_PER_REQUEST));
+                return;
+            }
+
+            var separator = operation == Operation.RENDER ? "\n\n" : "\n";
+            var response = new StringBuilder();
+            var deadline = System.nanoTime() + RESPONSE_TIMEOUT_NANOS;
+            for (var result : coalescer.submitAll(requests)) {
+                if (!response.isEmpty()) response.append(separator);
+                response.append(join(result, deadline));
+            }
+            respond(exchange, 200, response.toString());
+        }
+    }
+
+    private static String join(final CompletableFuture<String> result, final long deadline) {
+        try {
+            return result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (CancellationException e) {
+            return "error=servidor encerrando";
+        } catch (TimeoutException e) {
+            result.cancel(false);
+            return "error=tempo esgotado";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "error=servidor encerrando";
+        } catch (ExecutionException | RuntimeException e) {
+            return "error=falha interna";
+        }
+    }
+
+    private static List<BoardRequest> decodeText(final Operation operation, final byte[] body) {
+        List<BoardRequest> requests = new ArrayList<>();
+        for (var line : new String(body, StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                requests.add(BoardRequest.fromLine(operation, line));
+            }
+        }
+        return requests;
+    }
+
+    private static List<BoardRequest> decodeBinary(final Operation operation, final byte[] body) {
+        if (body.length % RECORD_BYTES != 0) {
+            throw new IllegalArgumentException("Corpo binário deve ter múltiplos de %s bytes".formatted(RECORD_BYTES));
+        }
+        List<BoardRequest> requests = new ArrayList<>(body.length / RECORD_BYTES);
+        for (int offset = 0; offset < body.length; offset += RECORD_BYTES) {
+            var clues = BoardCodec.unpackNibbles(body, offset, 81);
+            var values = BoardCodec.unpackNibbles(body, offset + NIBBLE_BYTES, 81);
+            requests.add(new BoardRequest(operation, BoardCodec.format(clues), BoardCodec.format(values)));
+        }
+        return requests;
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+        var bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    /**
+     * Uso: {@code BoardHttpServer [porta] [tamanho máximo do lote] [espera máxima µs] [threads de processamento]}
+     */
+    public static void main(String[] args) throws IOException {
+        var port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        var maxBatch = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        var maxWaitMicros = args.length > 2 ? Long.parseLong(args[2]) : 500;
+        var workers = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        var server = new BoardHttpServer(port, maxBatch, maxWaitMicros, workers);
+        server.start();
+        System.out.printf("Servidor de tabuleiros ouvindo na porta %d (lotes de até %d, espera de %dµs, %d threads)%n",
+                server.getPort(), maxBatch, maxWaitMicros, workers);
+    }
+
+}
@@ -0,0 +1,17 @@
+package br.com.dio.http;
+
+/**
+ * Um tabuleiro de uma requisição em lote, ainda no formato compacto:
+ * {@code clues} traz só as pistas e {@code values}, quando presente, o que o
+ * jogador já preencheu (as pistas podem ou não estar repetidas ali).
+ */
+public record BoardRequest(Operation operation, String clues, String values) {
+
+    public static BoardRequest fromLine(final Operation operation, final String line) {
+        var separator = line.indexOf(';');
+        return separator < 0
+                ? new BoardRequest(operation, line.trim(), null)
+                : new BoardRequest(operation, line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+    }
+
+}
@@ -0,0 +1,211 @@
+package br.com.dio.http;
+
+import br.com.dio.model.Board;
+import br.com.dio.model.GameStatusEnum;
+import br.com.dio.model.PuzzleTemplate;
+import br.com.dio.solver.BacktrackingSolver;
+import br.com.dio.util.BoardCodec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static br.com.dio.util.BoardTemplate.BOARD_TEMPLATE;
+import static java.util.Objects.isNull;
+
+/**
+ * Processa um lote de {@link BoardRequest} sem estado de sessão. Dentro do
+ * lote cada conjunto de pistas é resolvido uma única vez, e as soluções
+ * ficam num cache LRU compartilhado entre lotes, já que os clientes costumam
+ * validar várias jogadas do mesmo puzzle em sequência.
+ * <p>
+ * Como qualquer tabuleiro é aceito, cada puzzle é conferido quanto à
+ * unicidade. Com mais de uma solução não existe "o" valor esperado de cada
+ * posição, então erros e conclusão passam a depender só dos conflitos e do
+ * preenchimento, e a resposta traz {@code unique=false}.
+ * <p>
+ * O tempo de resolução é um orçamento do lote inteiro, não de cada puzzle.
+ * Os puzzles que faltam no cache são resolvidos antes de montar as respostas,
+ * começando pelos que têm menos posições vazias; quando o orçamento acaba, os
+ * restantes respondem com erro de tempo esgotado, e itens que não precisam
+ * resolver nada (renderização, soluções já em cache) seguem normalmente.
+ * Assim um pedido com muitos puzzles difíceis não segura por muito tempo, nem
+ * deixa sem resposta, os pedidos pequenos que caíram no mesmo lote.
+ */
+public class BoardService {
+
+    private record Solved(int[] solution, boolean unique) {
+    }
+
+    private static final Solved NO_SOLUTION = new Solved(null, false);
+    private static final Solved TIMED_OUT = new Solved(null, false);
+
+    private final BacktrackingSolver solver = new BacktrackingSolver();
+    private final long batchLimitNanos;
+    private final Map<String, Solved> solutions;
+
+    public BoardService(final int cacheSize, final long batchLimitMillis) {
+        this.batchLimitNanos = batchLimitMillis * 1_000_000L;
+        this.solutions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Solved> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public List<String> process(final List<BoardRequest> requests) {
+        var solvedInBatch = solveMissing(requests, System.nanoTime() + batchLimitNanos);
+        List<String> responses = new ArrayList<>(requests.size());
+        for (var request : requests) {
+            try {
+                responses.add(switch (request.operation()) {
+                    case VALIDATE -> validate(request, solvedInBatch);
+                    case SOLVE -> solve(request, solvedInBatch);
+                    case RENDER -> render(request);
+                });
+            } catch (IllegalArgumentException e) {
+                responses.add("error=" + e.getMessage());
+            }
+        }
+        return responses;
+    }
+
+    private String validate(final BoardRequest request, final Map<String, Solved> solvedInBatch) {
+        var clues = BoardCodec.parse(request.clues());
+        var solved = solutionOf(clues, solvedInBatch);
+        var solvable = solved != NO_SOLUTION;
+        var board = new Board(PuzzleTemplate.of(clues, solvable ? solved.solution() : clues));
+        fill(board, clues, request.values());
+
+        var conflicts = board.getConflicts();
+        boolean errors;
+        boolean finished;
+        if (solved.unique()) {
+            errors = board.hasErrors();
+            finished = board.gameIsFinished();
+        } else {
+            errors = conflicts.length > 0;
+            finished = solvable && !errors && board.getStatus() == GameStatusEnum.COMPLETE;
+        }
+        return "status=%s errors=%s conflicts=%s finished=%s solvable=%s unique=%s".formatted(
+                board.getStatus(), errors,
+                Arrays.stream(conflicts).mapToObj(String::valueOf).collect(Collectors.joining(",")),
+                finished, solvable, solved.unique());
+    }
+
+    private String solve(final BoardRequest request, final Map<String, Solved> solvedInBatch) {
+        var solved = solutionOf(BoardCodec.parse(request.clues()), solvedInBatch);
+        return solved == NO_SOLUTION
+                ? "error=sem solução"
+                : "solution=%s unique=%s".formatted(BoardCodec.format(solved.solution()), solved.unique());
+    }
+
+    private String render(final BoardRequest request) {
+        var clues = BoardCodec.parse(request.clues());
+        if (clues.length != 81) {
+            throw new IllegalArgumentException("Renderização disponível apenas para tabuleiros 9x9");
+        }
+        var board = new Board(PuzzleTemplate.of(clues, clues));
+        fill(board, clues, request.values());
+
+        var args = new Object[81];
+        var argPos = 0;
+        for (int i = 0; i < 9; i++) {
+            for (int col = 0; col < 9; col++) {
+                var actual = board.getActual(col, i);
+                args[argPos++] = " " + ((isNull(actual)) ? " " : actual);
+            }
+        }
+        return BOARD_TEMPLATE.formatted(args);
+    }
+
+    private static void fill(final Board board, final int[] clues, final String compactValues) {
+        if (isNull(compactValues) || compactValues.isEmpty()) return;
+
+        var values = BoardCodec.parse(compactValues);
+        if (values.length != clues.length) {
+            throw new IllegalArgumentException("Pistas e valores com tamanhos diferentes");
+        }
+        var size = board.getSize();
+        for (int cell = 0; cell < values.length; cell++) {
+            if (values[cell] != 0) {
+                board.changeValue(cell / size, cell % size, values[cell]);
+            }
+        }
+    }
+
+    /**
+     * Resolve uma vez cada conjunto de pistas do lote que ainda não está no
+     * cache. Puzzles que estouram o orçamento não entram no cache: outra
+     * tentativa, num lote menos carregado, pode terminar a tempo.
+     */
+    private Map<String, Solved> solveMissing(final List<BoardRequest> requests, final long deadline) {
+        Map<String, Solved> solvedInBatch = new HashMap<>();
+        Map<String, int[]> missing = new HashMap<>();
+        for (var request : requests) {
+            if (request.operation() == Operation.RENDER) continue;
+
+            int[] clues;
+            try {
+                clues = BoardCodec.parse(request.clues());
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            var key = BoardCodec.format(clues);
+            if (solvedInBatch.containsKey(key) || missing.containsKey(key)) continue;
+
+            Solved cached;
+            synchronized (solutions) {
+                cached = solutions.get(key);
+            }
+            if (cached != null) {
+                solvedInBatch.put(key, cached);
+            } else {
+                missing.put(key, clues);
+            }
+        }
+
+        List<Map.Entry<String, int[]>> queue = new ArrayList<>(missing.entrySet());
+        queue.sort(Comparator.comparingInt(entry -> emptyCells(entry.getValue())));
+        for (var entry : queue) {
+            if (System.nanoTime() - deadline > 0) {
+                solvedInBatch.put(entry.getKey(), TIMED_OUT);
+                continue;
+            }
+            var found = solver.findSolutions(entry.getValue(), 2, () -> System.nanoTime() - deadline > 0);
+            if (found == null) {
+                solvedInBatch.put(entry.getKey(), TIMED_OUT);
+                continue;
+            }
+            var solution = found.count() == 0 ? NO_SOLUTION : new Solved(found.first(), found.count() == 1);
+            synchronized (solutions) {
+                solutions.put(entry.getKey(), solution);
+            }
+            solvedInBatch.put(entry.getKey(), solution);
+        }
+        return solvedInBatch;
+    }
+
+    private static Solved solutionOf(final int[] clues, final Map<String, Solved> solvedInBatch) {
+        var solution = solvedInBatch.get(BoardCodec.format(clues));
+        if (solution == TIMED_OUT) {
+            throw new IllegalArgumentException("Tempo esgotado ao resolver o puzzle");
+        }
+        return solution;
+    }
+
+    private static int emptyCells(final int[] clues) {
+        var empty = 0;
+        for (var value : clues) {
+            if (value == 0) empty++;
+        }
+        return empty;
+    }
+
+}
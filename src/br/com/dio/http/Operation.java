@@ -0,0 +1,19 @@
+package br.com.dio.http;
+
+public enum Operation {
+
+    VALIDATE("/validate"),
+    SOLVE("/solve"),
+    RENDER("/render");
+
+    private final String path;
+
+    Operation(final String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+}
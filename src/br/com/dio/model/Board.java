@@ -1,32 +1,121 @@
 package br.com.dio.model;
 
-import java.util.Collection;
+import br.com.dio.model.constraint.CompiledConstraints;
+import br.com.dio.model.constraint.Constraint;
+import br.com.dio.model.constraint.StandardRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static br.com.dio.model.GameStatusEnum.COMPLETE;
 import static br.com.dio.model.GameStatusEnum.INCOMPLETE;
 import static br.com.dio.model.GameStatusEnum.NON_STARTED;
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
 
 public class Board {
 
-    private final List<List<Space>> spaces;
+    private PuzzleTemplate template;
+    private final byte[] values;
+
+    public Board(final PuzzleTemplate template) {
+        this.template = template;
+        this.values = new byte[template.getSize() * template.getSize()];
+    }
 
     public Board(final List<List<Space>> spaces) {
-        this.spaces = spaces;
+        this(spaces, List.of(StandardRules.INSTANCE));
+    }
+
+    public Board(final List<List<Space>> spaces, final List<? extends Constraint> constraints) {
+        this(PuzzleTemplate.fromSpaces(spaces, constraints));
+        var size = template.getSize();
+        for (int col = 0; col < size; col++) {
+            for (int row = 0; row < size; row++) {
+                var space = spaces.get(col).get(row);
+                if (!space.isFixed() && !isNull(space.getActual())) {
+                    values[col * size + row] = space.getActual().byteValue();
+                }
+            }
+        }
     }
 
+    public PuzzleTemplate getTemplate() {
+        return template;
+    }
+
+    public int getSize() {
+        return template.getSize();
+    }
+
+    public Integer getActual(final int col, final int row){
+        var value = valueAt(col * getSize() + row);
+        return value == 0 ? null : value;
+    }
+
+    public int getExpected(final int col, final int row){
+        return template.getExpected(col * getSize() + row);
+    }
+
+    public boolean isFixed(final int col, final int row){
+        return template.isFixed(col * getSize() + row);
+    }
+
+    /**
+     * Visão das posições no formato {@link Space}. As instâncias são criadas a
+     * cada chamada, mas leem e gravam direto neste tabuleiro.
+     */
     public List<List<Space>> getSpaces() {
+        var size = getSize();
+        List<List<Space>> spaces = new ArrayList<>(size);
+        for (int col = 0; col < size; col++) {
+            List<Space> column = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                column.add(new BoardSpace(col * size + row));
+            }
+            spaces.add(column);
+        }
         return spaces;
     }
 
+    public List<Constraint> getConstraints() {
+        return template.getConstraints();
+    }
+
+    public CompiledConstraints getCompiledConstraints() {
+        return template.getCompiledConstraints();
+    }
+
+    public void addConstraint(final Constraint constraint) {
+        template = template.withConstraint(constraint);
+    }
+
+    public boolean isValidMove(final int col, final int row, final int value){
+        return template.getCompiledConstraints().allows(this::valueAt, col * getSize() + row, value);
+    }
+
+    public int[] getConflicts(){
+        return template.getCompiledConstraints().conflicts(this::valueAt);
+    }
+
     public GameStatusEnum getStatus(){
-        if (spaces.stream().flatMap(Collection::stream).noneMatch(s -> !s.isFixed() && nonNull(s.getActual()))){
+        var started = false;
+        var empty = false;
+        for (int cell = 0; cell < values.length; cell++) {
+            if (template.isFixed(cell)) continue;
+
+            if (values[cell] != 0) {
+                started = true;
+            } else {
+                empty = true;
+            }
+        }
+
+        if (!started){
             return NON_STARTED;
         }
 
-        return spaces.stream().flatMap(Collection::stream).anyMatch(s -> isNull(s.getActual())) ? INCOMPLETE : COMPLETE;
+        return empty ? INCOMPLETE : COMPLETE;
     }
 
     public boolean hasErrors(){
@@ -34,36 +123,67 @@ public class Board {
             return false;
         }
 
-        return spaces.stream().flatMap(Collection::stream)
-                .anyMatch(s -> nonNull(s.getActual()) && !s.getActual().equals(s.getExpected()));
+        for (int cell = 0; cell < values.length; cell++) {
+            if (!template.isFixed(cell) && values[cell] != 0 && values[cell] != template.getExpected(cell)) {
+                return true;
+            }
+        }
+        return getConflicts().length > 0;
     }
 
+    /** Posições fixas e valores fora de 0 (vazio) até o tamanho do tabuleiro são recusados. */
     public boolean changeValue(final int col, final int row, final int value){
-        var space = spaces.get(col).get(row);
-        if (space.isFixed()){
+        var cell = col * getSize() + row;
+        if (template.isFixed(cell) || value < 0 || value > getSize()){
             return false;
         }
 
-        space.setActual(value);
+        values[cell] = (byte) value;
         return true;
     }
 
     public boolean clearValue(final int col, final int row){
-        var space = spaces.get(col).get(row);
-        if (space.isFixed()){
+        var cell = col * getSize() + row;
+        if (template.isFixed(cell)){
             return false;
         }
 
-        space.clearSpace();
+        values[cell] = 0;
         return true;
     }
 
     public void reset(){
-        spaces.forEach(c -> c.forEach(Space::clearSpace));
+        Arrays.fill(values, (byte) 0);
     }
 
     public boolean gameIsFinished(){
         return !hasErrors() && getStatus().equals(COMPLETE);
     }
 
+    private int valueAt(final int cell){
+        return template.isFixed(cell) ? template.getExpected(cell) : values[cell];
+    }
+
+    private final class BoardSpace extends Space {
+
+        private final int cell;
+
+        private BoardSpace(final int cell) {
+            super(template.getExpected(cell), template.isFixed(cell));
+            this.cell = cell;
+        }
+
+        @Override
+        public Integer getActual() {
+            var value = valueAt(cell);
+            return value == 0 ? null : value;
+        }
+
+        @Override
+        public void setActual(final Integer actual) {
+            if (isFixed()) return;
+            values[cell] = isNull(actual) ? 0 : actual.byteValue();
+        }
+    }
+
 }
@@ -0,0 +1,180 @@
+package br.com.dio.model;
+
+import br.com.dio.model.constraint.CompiledConstraints;
+import br.com.dio.model.constraint.Constraint;
+import br.com.dio.model.constraint.StandardRules;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Parte imutável de um puzzle: valores esperados, posições fixas e regras já
+ * compiladas. Templates iguais são internados, então todos os jogadores do
+ * mesmo puzzle compartilham uma única instância e cada {@link Board} guarda
+ * apenas os valores digitados pelo jogador.
+ */
+public final class PuzzleTemplate {
+
+    private static final Map<Key, WeakReference<PuzzleTemplate>> INTERNED = new WeakHashMap<>();
+
+    private final Key key;
+    private final int size;
+    private final int clueCount;
+    private final CompiledConstraints compiledConstraints;
+
+    private PuzzleTemplate(final Key key, final int size) {
+        this.key = key;
+        this.size = size;
+        var clues = 0;
+        for (var word : key.fixed) {
+            clues += Long.bitCount(word);
+        }
+        this.clueCount = clues;
+        this.compiledConstraints = CompiledConstraints.compile(size, key.constraints);
+    }
+
+    public static PuzzleTemplate of(final int[] clues, final int[] solution) {
+        return of(clues, solution, List.of(StandardRules.INSTANCE));
+    }
+
+    public static PuzzleTemplate of(final int[] clues, final int[] solution, final List<? extends Constraint> constraints) {
+        var size = (int) Math.round(Math.sqrt(clues.length));
+        var expected = new byte[clues.length];
+        var fixed = new long[(clues.length + 63) / 64];
+        for (int cell = 0; cell < clues.length; cell++) {
+            expected[cell] = (byte) solution[cell];
+            if (clues[cell] != 0) {
+                fixed[cell >>> 6] |= 1L << cell;
+            }
+        }
+        return intern(size, expected, fixed, constraints);
+    }
+
+    public static PuzzleTemplate fromSpaces(final List<List<Space>> spaces, final List<? extends Constraint> constraints) {
+        var size = spaces.size();
+        var expected = new byte[size * size];
+        var fixed = new long[(expected.length + 63) / 64];
+        for (int col = 0; col < size; col++) {
+            for (int row = 0; row < size; row++) {
+                var space = spaces.get(col).get(row);
+                var cell = col * size + row;
+                expected[cell] = (byte) space.getExpected();
+                if (space.isFixed()) {
+                    fixed[cell >>> 6] |= 1L << cell;
+                }
+            }
+        }
+        return intern(size, expected, fixed, constraints);
+    }
+
+    /**
+     * Monta o template a partir do formato de posições usado pelos argumentos
+     * do console e pela configuração padrão da interface gráfica:
+     * {@code "col,row" -> "esperado,fixo"}.
+     */
+    public static PuzzleTemplate fromPositions(final Map<String, String> positions, final int size) {
+        var expected = new byte[size * size];
+        var fixed = new long[(expected.length + 63) / 64];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                var positionConfig = positions.getOrDefault("%s,%s".formatted(i, j), "0,false");
+                var cell = i * size + j;
+                expected[cell] = (byte) Integer.parseInt(positionConfig.split(",")[0]);
+                if (Boolean.parseBoolean(positionConfig.split(",")[1])) {
+                    fixed[cell >>> 6] |= 1L << cell;
+                }
+            }
+        }
+        return intern(size, expected, fixed, List.of(StandardRules.INSTANCE));
+    }
+
+    public PuzzleTemplate withConstraint(final Constraint constraint) {
+        List<Constraint> constraints = new ArrayList<>(key.constraints);
+        constraints.add(constraint);
+        return intern(size, key.expected, key.fixed, constraints);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getExpected(final int cell) {
+        return key.expected[cell];
+    }
+
+    public boolean isFixed(final int cell) {
+        return (key.fixed[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public int getClueCount() {
+        return clueCount;
+    }
+
+    public List<Constraint> getConstraints() {
+        return key.constraints;
+    }
+
+    public CompiledConstraints getCompiledConstraints() {
+        return compiledConstraints;
+    }
+
+    public static int internedCount() {
+        synchronized (INTERNED) {
+            return INTERNED.size();
+        }
+    }
+
+    private static PuzzleTemplate intern(final int size, final byte[] expected, final long[] fixed,
+                                         final List<? extends Constraint> constraints) {
+        var key = new Key(expected, fixed, List.copyOf(constraints));
+        var existing = lookup(key);
+        if (nonNull(existing)) {
+            return existing;
+        }
+
+        // Compilar as regras é caro em tabuleiros grandes, então acontece fora do lock global;
+        // se duas threads criarem o mesmo template ao mesmo tempo, a primeira a publicar vence
+        var candidate = new PuzzleTemplate(key, size);
+        synchronized (INTERNED) {
+            var published = lookup(key);
+            if (nonNull(published)) {
+                return published;
+            }
+            // A chave fica presa ao template, então a entrada vive enquanto algum jogo o usar
+            INTERNED.put(key, new WeakReference<>(candidate));
+            return candidate;
+        }
+    }
+
+    private static PuzzleTemplate lookup(final Key key) {
+        synchronized (INTERNED) {
+            var reference = INTERNED.get(key);
+            return isNull(reference) ? null : reference.get();
+        }
+    }
+
+    private record Key(byte[] expected, long[] fixed, List<Constraint> constraints) {
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Key other
+                    && Arrays.equals(expected, other.expected)
+                    && Arrays.equals(fixed, other.fixed)
+                    && constraints.equals(other.constraints);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Arrays.hashCode(expected), Arrays.hashCode(fixed), constraints);
+        }
+    }
+
+}
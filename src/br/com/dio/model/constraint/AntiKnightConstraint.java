@@ -0,0 +1,33 @@
+package br.com.dio.model.constraint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Posições a um movimento de cavalo de distância não podem ter o mesmo valor. */
+public final class AntiKnightConstraint implements Constraint {
+
+    public static final AntiKnightConstraint INSTANCE = new AntiKnightConstraint();
+
+    private static final int[][] MOVES = {{1, 2}, {2, 1}, {2, -1}, {1, -2}};
+
+    private AntiKnightConstraint() {}
+
+    @Override
+    public List<int[]> units(final int size) {
+        List<int[]> pairs = new ArrayList<>();
+        for (int col = 0; col < size; col++) {
+            for (int row = 0; row < size; row++) {
+                // Só os movimentos "para frente", para não gerar cada par duas vezes
+                for (var move : MOVES) {
+                    var otherCol = col + move[0];
+                    var otherRow = row + move[1];
+                    if (otherCol < size && otherRow >= 0 && otherRow < size) {
+                        pairs.add(new int[]{col * size + row, otherCol * size + otherRow});
+                    }
+                }
+            }
+        }
+        return pairs;
+    }
+
+}
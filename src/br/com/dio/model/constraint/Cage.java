@@ -0,0 +1,4 @@
+package br.com.dio.model.constraint;
+
+public record Cage(int sum, int[] cells) {
+}
@@ -0,0 +1,179 @@
+package br.com.dio.model.constraint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Tabelas planas geradas a partir das regras ativas: para cada posição, a
+ * lista de vizinhos (sem duplicatas) e as gaiolas de soma a que pertence.
+ * Os valores do tabuleiro são lidos por um {@link IntUnaryOperator} de
+ * posição para valor, com 0 para vazio.
+ */
+public final class CompiledConstraints {
+
+    private final int size;
+    private final int fullMask;
+    private final int[] peerStart;
+    private final int[] peers;
+    private final int[] cellCageStart;
+    private final int[] cellCages;
+    private final int[] cageStart;
+    private final int[] cageCells;
+    private final int[] cageSum;
+
+    private CompiledConstraints(final int size, final int[] peerStart, final int[] peers,
+                                final int[] cellCageStart, final int[] cellCages,
+                                final int[] cageStart, final int[] cageCells, final int[] cageSum) {
+        this.size = size;
+        this.fullMask = (1 << size) - 1;
+        this.peerStart = peerStart;
+        this.peers = peers;
+        this.cellCageStart = cellCageStart;
+        this.cellCages = cellCages;
+        this.cageStart = cageStart;
+        this.cageCells = cageCells;
+        this.cageSum = cageSum;
+    }
+
+    public static CompiledConstraints compile(final int size, final List<? extends Constraint> constraints) {
+        var cellCount = size * size;
+        var peerSets = new BitSet[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            peerSets[cell] = new BitSet(cellCount);
+        }
+
+        List<Cage> cages = new ArrayList<>();
+        for (var constraint : constraints) {
+            constraint.units(size).forEach(unit -> link(peerSets, unit));
+            for (var cage : constraint.cages(size)) {
+                link(peerSets, cage.cells());
+                cages.add(cage);
+            }
+        }
+
+        var peerStart = new int[cellCount + 1];
+        for (int cell = 0; cell < cellCount; cell++) {
+            peerStart[cell + 1] = peerStart[cell] + peerSets[cell].cardinality();
+        }
+        var peers = new int[peerStart[cellCount]];
+        for (int cell = 0; cell < cellCount; cell++) {
+            var i = peerStart[cell];
+            for (var peer = peerSets[cell].nextSetBit(0); peer >= 0; peer = peerSets[cell].nextSetBit(peer + 1)) {
+                peers[i++] = peer;
+            }
+        }
+
+        var cageStart = new int[cages.size() + 1];
+        var cageSum = new int[cages.size()];
+        var cagesPerCell = new int[cellCount];
+        for (int c = 0; c < cages.size(); c++) {
+            var cells = cages.get(c).cells();
+            cageStart[c + 1] = cageStart[c] + cells.length;
+            cageSum[c] = cages.get(c).sum();
+            for (var cell : cells) {
+                cagesPerCell[cell]++;
+            }
+        }
+        var cageCells = new int[cageStart[cages.size()]];
+        var cellCageStart = new int[cellCount + 1];
+        for (int cell = 0; cell < cellCount; cell++) {
+            cellCageStart[cell + 1] = cellCageStart[cell] + cagesPerCell[cell];
+        }
+        var cellCages = new int[cellCageStart[cellCount]];
+        var filled = Arrays.copyOf(cellCageStart, cellCount);
+        for (int c = 0; c < cages.size(); c++) {
+            var cells = cages.get(c).cells();
+            System.arraycopy(cells, 0, cageCells, cageStart[c], cells.length);
+            for (var cell : cells) {
+                cellCages[filled[cell]++] = c;
+            }
+        }
+
+        return new CompiledConstraints(size, peerStart, peers, cellCageStart, cellCages, cageStart, cageCells, cageSum);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int peerCount(final int cell) {
+        return peerStart[cell + 1] - peerStart[cell];
+    }
+
+    public int peerMask(final IntUnaryOperator values, final int cell) {
+        var mask = 0;
+        for (int i = peerStart[cell]; i < peerStart[cell + 1]; i++) {
+            var value = values.applyAsInt(peers[i]);
+            if (value != 0) {
+                mask |= 1 << (value - 1);
+            }
+        }
+        return mask;
+    }
+
+    public int candidates(final IntUnaryOperator values, final int cell) {
+        var mask = fullMask & ~peerMask(values, cell);
+        for (var candidates = mask; candidates != 0; candidates &= candidates - 1) {
+            var bit = Integer.lowestOneBit(candidates);
+            if (!cagesAllow(values, cell, Integer.numberOfTrailingZeros(bit) + 1)) {
+                mask &= ~bit;
+            }
+        }
+        return mask;
+    }
+
+    public boolean allows(final IntUnaryOperator values, final int cell, final int value) {
+        if (value < 1 || value > size) return false;
+        return (peerMask(values, cell) & (1 << (value - 1))) == 0 && cagesAllow(values, cell, value);
+    }
+
+    public int[] conflicts(final IntUnaryOperator values) {
+        var cellCount = size * size;
+        var result = new int[cellCount];
+        var count = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            var value = values.applyAsInt(cell);
+            if (value != 0 && !allows(values, cell, value)) {
+                result[count++] = cell;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private boolean cagesAllow(final IntUnaryOperator values, final int cell, final int value) {
+        for (int i = cellCageStart[cell]; i < cellCageStart[cell + 1]; i++) {
+            var cage = cellCages[i];
+            var sum = value;
+            var empty = 0;
+            for (int j = cageStart[cage]; j < cageStart[cage + 1]; j++) {
+                var other = cageCells[j];
+                if (other == cell) continue;
+                var otherValue = values.applyAsInt(other);
+                if (otherValue == 0) {
+                    empty++;
+                } else {
+                    sum += otherValue;
+                }
+            }
+            // Cada posição vazia ainda precisa de pelo menos 1
+            if (sum + empty > cageSum[cage] || (empty == 0 && sum != cageSum[cage])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void link(final BitSet[] peerSets, final int[] unit) {
+        for (var a : unit) {
+            for (var b : unit) {
+                if (a != b) {
+                    peerSets[a].set(b);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package br.com.dio.model.constraint;
+
+import java.util.List;
+
+/**
+ * Regra de um tabuleiro. Toda regra se reduz a unidades (grupos de posições
+ * que não podem repetir valores) e gaiolas (unidades com soma obrigatória).
+ * As posições seguem o índice {@code col * tamanho + row}.
+ * <p>
+ * As regras ativas são compiladas uma única vez em {@link CompiledConstraints},
+ * então o custo de validar uma jogada depende só da quantidade de vizinhos da
+ * posição, não da quantidade de regras.
+ */
+public interface Constraint {
+
+    default List<int[]> units(final int size) {
+        return List.of();
+    }
+
+    default List<Cage> cages(final int size) {
+        return List.of();
+    }
+
+}
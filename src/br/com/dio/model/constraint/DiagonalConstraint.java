@@ -0,0 +1,23 @@
+package br.com.dio.model.constraint;
+
+import java.util.List;
+
+/** As duas diagonais principais também não podem repetir valores (Sudoku X). */
+public final class DiagonalConstraint implements Constraint {
+
+    public static final DiagonalConstraint INSTANCE = new DiagonalConstraint();
+
+    private DiagonalConstraint() {}
+
+    @Override
+    public List<int[]> units(final int size) {
+        var main = new int[size];
+        var anti = new int[size];
+        for (int i = 0; i < size; i++) {
+            main[i] = i * size + i;
+            anti[i] = i * size + (size - 1 - i);
+        }
+        return List.of(main, anti);
+    }
+
+}
@@ -0,0 +1,73 @@
+package br.com.dio.model.constraint;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Gaiola do Killer Sudoku: as posições somam {@code sum} e não repetem valores.
+ * As posições são copiadas, porque a gaiola faz parte da chave do
+ * {@code PuzzleTemplate} internado e não pode mudar depois de criada.
+ */
+public record KillerCage(int sum, int... cells) implements Constraint {
+
+    public KillerCage {
+        if (cells == null || cells.length == 0) {
+            throw new IllegalArgumentException("A gaiola precisa de ao menos uma posição");
+        }
+        cells = cells.clone();
+        var sorted = cells.clone();
+        Arrays.sort(sorted);
+        if (sorted[0] < 0) {
+            throw new IllegalArgumentException("Posição inválida na gaiola: " + sorted[0]);
+        }
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                throw new IllegalArgumentException("Posição repetida na gaiola: " + sorted[i]);
+            }
+        }
+        if (sum < minSum(cells.length)) {
+            throw new IllegalArgumentException("Soma %s impossível para %s posições".formatted(sum, cells.length));
+        }
+    }
+
+    @Override
+    public int[] cells() {
+        return cells.clone();
+    }
+
+    /** Os limites que dependem do tamanho do tabuleiro só são conferidos aqui. */
+    @Override
+    public List<Cage> cages(final int size) {
+        for (var cell : cells) {
+            if (cell >= size * size) {
+                throw new IllegalArgumentException("Posição %s fora de um tabuleiro %sx%s".formatted(cell, size, size));
+            }
+        }
+        var maxSum = size * (size + 1) / 2 - minSum(size - cells.length);
+        if (cells.length > size || sum > maxSum) {
+            throw new IllegalArgumentException("Soma %s impossível para %s posições num tabuleiro %sx%s"
+                    .formatted(sum, cells.length, size, size));
+        }
+        return List.of(new Cage(sum, cells.clone()));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof KillerCage other && sum == other.sum && Arrays.equals(cells, other.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * sum + Arrays.hashCode(cells);
+    }
+
+    @Override
+    public String toString() {
+        return "KillerCage[sum=%s, cells=%s]".formatted(sum, Arrays.toString(cells));
+    }
+
+    private static int minSum(final int count) {
+        return Math.max(0, count) * (Math.max(0, count) + 1) / 2;
+    }
+
+}
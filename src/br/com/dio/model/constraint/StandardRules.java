@@ -0,0 +1,33 @@
+package br.com.dio.model.constraint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Linhas, colunas e blocos sem repetição: o Sudoku clássico. */
+public final class StandardRules implements Constraint {
+
+    public static final StandardRules INSTANCE = new StandardRules();
+
+    private StandardRules() {}
+
+    @Override
+    public List<int[]> units(final int size) {
+        var box = (int) Math.round(Math.sqrt(size));
+        List<int[]> units = new ArrayList<>(size * 3);
+        for (int i = 0; i < size; i++) {
+            var column = new int[size];
+            var row = new int[size];
+            var block = new int[size];
+            for (int j = 0; j < size; j++) {
+                column[j] = i * size + j;
+                row[j] = j * size + i;
+                block[j] = ((i / box) * box + j / box) * size + (i % box) * box + j % box;
+            }
+            units.add(column);
+            units.add(row);
+            units.add(block);
+        }
+        return units;
+    }
+
+}
@@ -0,0 +1,332 @@
+package br.com.dio.solver;
+
+import br.com.dio.util.BoardCodec;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Busca local estocástica (simulated annealing) para grades grandes.
+ * <p>
+ * O estado mantém cada bloco como uma permutação completa dos seus valores,
+ * então a única restrição violada é a repetição em linhas e colunas. Um
+ * movimento troca duas posições livres do mesmo bloco e o custo é atualizado
+ * em O(1) a partir das contagens de valores por linha e coluna. Cada thread
+ * executa reinícios independentes e a primeira que zerar o custo encerra as
+ * demais.
+ */
+public class AnnealingSolver implements SolverStrategy {
+
+    private static final double COOLING_RATE = 0.999;
+    private static final int STALL_LIMIT = 400;
+    private static final int SAMPLE_MOVES = 200;
+
+    private final int threads;
+    private final long seed;
+
+    public AnnealingSolver() {
+        this(Runtime.getRuntime().availableProcessors(), System.nanoTime());
+    }
+
+    public AnnealingSolver(final int threads, final long seed) {
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    @Override
+    public String name() {
+        return "annealing";
+    }
+
+    /**
+     * A busca é incompleta: num puzzle sem solução os reinícios nunca
+     * terminam sozinhos, então quem chama deve sempre passar um sinal de
+     * cancelamento com prazo. Retorna {@code null} quando cancelada.
+     */
+    @Override
+    public int[] solve(final int[] cells, final BooleanSupplier cancelled) {
+        var size = BoardCodec.sizeOf(cells.length);
+        var start = Run.propagateSingles(cells, size, (int) Math.round(Math.sqrt(size)));
+        if (start == null) return null;
+
+        var solution = new AtomicReference<int[]>();
+        var stop = new AtomicBoolean();
+        BooleanSupplier stopped = () -> stop.get() || cancelled.getAsBoolean();
+        if (threads == 1) {
+            // Com uma thread só, roda na thread de quem chamou (por exemplo, dentro de um pool)
+            restart(start, new SplittableRandom(seed), stopped, stop, solution);
+            return solution.get();
+        }
+
+        var finished = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            var random = new SplittableRandom(seed + t * 0x9E3779B97F4A7C15L);
+            var worker = new Thread(() -> {
+                try {
+                    restart(start, random, stopped, stop, solution);
+                } finally {
+                    finished.countDown();
+                }
+            }, "annealing-" + t);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            stop.set(true);
+            Thread.currentThread().interrupt();
+        }
+        return solution.get();
+    }
+
+    private static void restart(final int[] start, final SplittableRandom random, final BooleanSupplier stopped,
+                                final AtomicBoolean stop, final AtomicReference<int[]> solution) {
+        while (!stopped.getAsBoolean()) {
+            var run = new Run(start, random.split());
+            var result = run.anneal(stopped);
+            if (result != null) {
+                if (solution.compareAndSet(null, result)) {
+                    stop.set(true);
+                }
+                return;
+            }
+            if (run.isFrozen()) {
+                // Nenhuma troca possível: outro reinício daria o mesmo estado
+                stop.set(true);
+                return;
+            }
+        }
+    }
+
+    private static final class Run {
+
+        private final int size;
+        private final int box;
+        private final int[] grid;
+        private final int[] rowCount;
+        private final int[] colCount;
+        private final int[][] freeByBox;
+        private final int[] movableBoxes;
+        private final SplittableRandom random;
+        private int cost;
+
+        private Run(final int[] start, final SplittableRandom random) {
+            this.random = random;
+            size = BoardCodec.sizeOf(start.length);
+            box = (int) Math.round(Math.sqrt(size));
+            grid = start.clone();
+            rowCount = new int[size * size];
+            colCount = new int[size * size];
+            freeByBox = new int[size][];
+            var movable = new int[size];
+            var movableCount = 0;
+
+            for (int b = 0; b < size; b++) {
+                freeByBox[b] = fillBox(b);
+                if (freeByBox[b].length >= 2) {
+                    movable[movableCount++] = b;
+                }
+            }
+            for (int cell = 0; cell < grid.length; cell++) {
+                rowCount[(cell % size) * size + grid[cell] - 1]++;
+                colCount[(cell / size) * size + grid[cell] - 1]++;
+            }
+            for (int line = 0; line < size; line++) {
+                for (int v = 0; v < size; v++) {
+                    if (rowCount[line * size + v] == 0) cost++;
+                    if (colCount[line * size + v] == 0) cost++;
+                }
+            }
+            movableBoxes = Arrays.copyOf(movable, movableCount);
+        }
+
+        private boolean isFrozen() {
+            return movableBoxes.length == 0;
+        }
+
+        private int[] anneal(final BooleanSupplier stopped) {
+            if (cost == 0) return grid;
+            if (movableBoxes.length == 0) return null;
+
+            var temperature = initialTemperature();
+            var iterationsPerStep = 0;
+            for (var free : freeByBox) {
+                iterationsPerStep += free.length * free.length;
+            }
+
+            var best = cost;
+            var stall = 0;
+            while (stall < STALL_LIMIT && !stopped.getAsBoolean()) {
+                for (int i = 0; i < iterationsPerStep; i++) {
+                    var free = freeByBox[movableBoxes[random.nextInt(movableBoxes.length)]];
+                    var first = random.nextInt(free.length);
+                    var second = random.nextInt(free.length - 1);
+                    if (second >= first) second++;
+
+                    var a = free[first];
+                    var b = free[second];
+                    var delta = delta(a, b);
+                    if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                        swap(a, b);
+                        cost += delta;
+                        if (cost == 0) return grid;
+                    }
+                }
+
+                if (cost < best) {
+                    best = cost;
+                    stall = 0;
+                } else {
+                    stall++;
+                }
+                temperature *= COOLING_RATE;
+            }
+            return null;
+        }
+
+        private double initialTemperature() {
+            var sum = 0.0;
+            var sumSquares = 0.0;
+            for (int i = 0; i < SAMPLE_MOVES; i++) {
+                var free = freeByBox[movableBoxes[random.nextInt(movableBoxes.length)]];
+                var first = random.nextInt(free.length);
+                var second = random.nextInt(free.length - 1);
+                if (second >= first) second++;
+                var delta = delta(free[first], free[second]);
+                sum += delta;
+                sumSquares += (double) delta * delta;
+            }
+            var mean = sum / SAMPLE_MOVES;
+            return Math.max(Math.sqrt(sumSquares / SAMPLE_MOVES - mean * mean), 0.5);
+        }
+
+        private int delta(final int a, final int b) {
+            var va = grid[a] - 1;
+            var vb = grid[b] - 1;
+            var rowA = a % size;
+            var rowB = b % size;
+            var colA = a / size;
+            var colB = b / size;
+            var delta = 0;
+            if (rowA != rowB) {
+                delta += lineDelta(rowCount, rowA, va, vb) + lineDelta(rowCount, rowB, vb, va);
+            }
+            if (colA != colB) {
+                delta += lineDelta(colCount, colA, va, vb) + lineDelta(colCount, colB, vb, va);
+            }
+            return delta;
+        }
+
+        private int lineDelta(final int[] count, final int line, final int removed, final int added) {
+            var delta = 0;
+            if (count[line * size + removed] == 1) delta++;
+            if (count[line * size + added] == 0) delta--;
+            return delta;
+        }
+
+        private void swap(final int a, final int b) {
+            var va = grid[a] - 1;
+            var vb = grid[b] - 1;
+            var rowA = a % size;
+            var rowB = b % size;
+            var colA = a / size;
+            var colB = b / size;
+            rowCount[rowA * size + va]--;
+            rowCount[rowA * size + vb]++;
+            rowCount[rowB * size + vb]--;
+            rowCount[rowB * size + va]++;
+            colCount[colA * size + va]--;
+            colCount[colA * size + vb]++;
+            colCount[colB * size + vb]--;
+            colCount[colB * size + va]++;
+            grid[a] = vb + 1;
+            grid[b] = va + 1;
+        }
+
+        private int[] fillBox(final int b) {
+            var firstCol = (b / box) * box;
+            var firstRow = (b % box) * box;
+            var present = new boolean[size];
+            var free = new int[size];
+            var freeCount = 0;
+            for (int c = firstCol; c < firstCol + box; c++) {
+                for (int r = firstRow; r < firstRow + box; r++) {
+                    var cell = c * size + r;
+                    if (grid[cell] == 0) {
+                        free[freeCount++] = cell;
+                    } else {
+                        present[grid[cell] - 1] = true;
+                    }
+                }
+            }
+
+            var missing = new int[freeCount];
+            var missingCount = 0;
+            for (int v = 0; v < size; v++) {
+                if (!present[v]) missing[missingCount++] = v + 1;
+            }
+            for (int i = missingCount - 1; i > 0; i--) {
+                var j = random.nextInt(i + 1);
+                var tmp = missing[i];
+                missing[i] = missing[j];
+                missing[j] = tmp;
+            }
+            for (int i = 0; i < freeCount; i++) {
+                grid[free[i]] = missing[i];
+            }
+            return Arrays.copyOf(free, freeCount);
+        }
+
+        /**
+         * Fixa as posições com um único candidato antes da busca; isso reduz
+         * bastante o espaço de estados. Devolve {@code null} se as pistas já
+         * forem contraditórias.
+         */
+        private static int[] propagateSingles(final int[] cells, final int size, final int box) {
+            var grid = cells.clone();
+            var rowMask = new int[size];
+            var colMask = new int[size];
+            var boxMask = new int[size];
+            for (int cell = 0; cell < grid.length; cell++) {
+                if (grid[cell] == 0) continue;
+                var bit = 1 << (grid[cell] - 1);
+                var col = cell / size;
+                var row = cell % size;
+                var b = (col / box) * box + row / box;
+                if (((colMask[col] | rowMask[row] | boxMask[b]) & bit) != 0) return null;
+                colMask[col] |= bit;
+                rowMask[row] |= bit;
+                boxMask[b] |= bit;
+            }
+
+            var full = (1 << size) - 1;
+            var changed = true;
+            while (changed) {
+                changed = false;
+                for (int cell = 0; cell < grid.length; cell++) {
+                    if (grid[cell] != 0) continue;
+                    var col = cell / size;
+                    var row = cell % size;
+                    var b = (col / box) * box + row / box;
+                    var candidates = full & ~(colMask[col] | rowMask[row] | boxMask[b]);
+                    if (candidates == 0) return null;
+                    if (Integer.bitCount(candidates) == 1) {
+                        grid[cell] = Integer.numberOfTrailingZeros(candidates) + 1;
+                        colMask[col] |= candidates;
+                        rowMask[row] |= candidates;
+                        boxMask[b] |= candidates;
+                        changed = true;
+                    }
+                }
+            }
+            return grid;
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package br.com.dio.solver;
+
+import br.com.dio.util.BoardCodec;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Busca exata com backtracking sobre máscaras de bits por linha, coluna e
+ * bloco, escolhendo sempre a posição com menos candidatos (MRV).
+ * Funciona para qualquer tamanho suportado por {@link BoardCodec}.
+ */
+public class BacktrackingSolver implements SolverStrategy {
+
+    private static final long CANCEL_CHECK_MASK = 0x3FF;
+
+    @Override
+    public String name() {
+        return "backtracking";
+    }
+
+    @Override
+    public boolean isComplete() {
+        return true;
+    }
+
+    public int[] solve(final int[] cells) {
+        return solve(cells, () -> false);
+    }
+
+    /**
+     * O sinal de cancelamento é consultado periodicamente durante a busca;
+     * quando ativo a busca é abandonada e o retorno é {@code null}.
+     */
+    @Override
+    public int[] solve(final int[] cells, final BooleanSupplier cancelled) {
+        var search = new Search(cells, cancelled);
+        return search.run(1) == 1 && !search.aborted ? search.firstSolution : null;
+    }
+
+    public int countSolutions(final int[] cells, final int limit) {
+        return new Search(cells, () -> false).run(limit);
+    }
+
+    /**
+     * Primeira solução e quantidade de soluções encontradas até {@code limit},
+     * numa única busca: com limite 2 a mesma chamada resolve e confere a
+     * unicidade. Devolve {@code null} se a busca for cancelada.
+     */
+    public Solutions findSolutions(final int[] cells, final int limit, final BooleanSupplier cancelled) {
+        var search = new Search(cells, cancelled);
+        var count = search.run(limit);
+        return search.aborted ? null : new Solutions(search.firstSolution, count);
+    }
+
+    public record Solutions(int[] first, int count) {
+    }
+
+    private static final class Search {
+
+        private final int size;
+        private final int box;
+        private final int[] grid;
+        private final int[] rowMask;
+        private final int[] colMask;
+        private final int[] boxMask;
+        private final BooleanSupplier cancelled;
+        private int[] firstSolution;
+        private int found;
+        private int limit;
+        private long nodes;
+        private boolean aborted;
+
+        private Search(final int[] cells, final BooleanSupplier cancelled) {
+            this.cancelled = cancelled;
+            size = BoardCodec.sizeOf(cells.length);
+            box = (int) Math.round(Math.sqrt(size));
+            grid = cells.clone();
+            rowMask = new int[size];
+            colMask = new int[size];
+            boxMask = new int[size];
+        }
+
+        private int run(final int limit) {
+            this.limit = limit;
+            for (int cell = 0; cell < grid.length; cell++) {
+                var value = grid[cell];
+                if (value == 0) continue;
+
+                var bit = 1 << (value - 1);
+                var col = cell / size;
+                var row = cell % size;
+                var b = boxOf(col, row);
+                if (((colMask[col] | rowMask[row] | boxMask[b]) & bit) != 0) {
+                    return 0;
+                }
+                colMask[col] |= bit;
+                rowMask[row] |= bit;
+                boxMask[b] |= bit;
+            }
+            search();
+            return found;
+        }
+
+        private boolean search() {
+            if ((++nodes & CANCEL_CHECK_MASK) == 0 && cancelled.getAsBoolean()) {
+                aborted = true;
+                return true;
+            }
+
+            var full = (1 << size) - 1;
+            var bestCell = -1;
+            var bestCandidates = 0;
+            var bestCount = Integer.MAX_VALUE;
+            for (int cell = 0; cell < grid.length; cell++) {
+                if (grid[cell] != 0) continue;
+
+                var col = cell / size;
+                var row = cell % size;
+                var candidates = full & ~(colMask[col] | rowMask[row] | boxMask[boxOf(col, row)]);
+                var count = Integer.bitCount(candidates);
+                if (count < bestCount) {
+                    bestCell = cell;
+                    bestCandidates = candidates;
+                    bestCount = count;
+                    if (count <= 1) break;
+                }
+            }
+
+            if (bestCell < 0) {
+                if (found++ == 0) {
+                    firstSolution = grid.clone();
+                }
+                return found >= limit;
+            }
+
+            var col = bestCell / size;
+            var row = bestCell % size;
+            var b = boxOf(col, row);
+            var candidates = bestCandidates;
+            while (candidates != 0) {
+                var bit = Integer.lowestOneBit(candidates);
+                candidates &= candidates - 1;
+                grid[bestCell] = Integer.numberOfTrailingZeros(bit) + 1;
+                colMask[col] |= bit;
+                rowMask[row] |= bit;
+                boxMask[b] |= bit;
+
+                var done = search();
+
+                colMask[col] &= ~bit;
+                rowMask[row] &= ~bit;
+                boxMask[b] &= ~bit;
+                grid[bestCell] = 0;
+                if (done) return true;
+            }
+            return false;
+        }
+
+        private int boxOf(final int col, final int row) {
+            return (col / box) * box + row / box;
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package br.com.dio.solver;
+
+import br.com.dio.model.Board;
+import br.com.dio.model.constraint.CompiledConstraints;
+import br.com.dio.util.BoardCodec;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Backtracking com MRV guiado pelas tabelas de {@link CompiledConstraints},
+ * o que permite resolver variantes (Killer, X, anti-cavalo) com o mesmo
+ * custo por jogada, proporcional ao número de vizinhos da posição.
+ */
+public class ConstraintSolver implements SolverStrategy {
+
+    private static final long CANCEL_CHECK_MASK = 0x3FF;
+
+    private final CompiledConstraints constraints;
+
+    public ConstraintSolver(final CompiledConstraints constraints) {
+        this.constraints = constraints;
+    }
+
+    @Override
+    public String name() {
+        return "constraint";
+    }
+
+    @Override
+    public boolean isComplete() {
+        return true;
+    }
+
+    public int[] solve(final Board board) {
+        return solve(BoardCodec.clues(board), () -> false);
+    }
+
+    @Override
+    public int[] solve(final int[] cells, final BooleanSupplier cancelled) {
+        var grid = cells.clone();
+        IntUnaryOperator values = cell -> grid[cell];
+        for (int cell = 0; cell < grid.length; cell++) {
+            if (grid[cell] != 0 && !constraints.allows(values, cell, grid[cell])) {
+                return null;
+            }
+        }
+        var search = new Search(grid, values, cancelled);
+        return search.run() ? grid : null;
+    }
+
+    private final class Search {
+
+        private final int[] grid;
+        private final IntUnaryOperator values;
+        private final BooleanSupplier cancelled;
+        private long nodes;
+        private boolean aborted;
+
+        private Search(final int[] grid, final IntUnaryOperator values, final BooleanSupplier cancelled) {
+            this.grid = grid;
+            this.values = values;
+            this.cancelled = cancelled;
+        }
+
+        private boolean run() {
+            if ((++nodes & CANCEL_CHECK_MASK) == 0 && cancelled.getAsBoolean()) {
+                aborted = true;
+            }
+            if (aborted) return false;
+
+            var bestCell = -1;
+            var bestCandidates = 0;
+            var bestCount = Integer.MAX_VALUE;
+            for (int cell = 0; cell < grid.length; cell++) {
+                if (grid[cell] != 0) continue;
+
+                var candidates = constraints.candidates(values, cell);
+                var count = Integer.bitCount(candidates);
+                if (count < bestCount) {
+                    bestCell = cell;
+                    bestCandidates = candidates;
+                    bestCount = count;
+                    if (count <= 1) break;
+                }
+            }
+            if (bestCell < 0) return true;
+
+            for (var candidates = bestCandidates; candidates != 0; candidates &= candidates - 1) {
+                grid[bestCell] = Integer.numberOfTrailingZeros(candidates) + 1;
+                if (run()) return true;
+            }
+            grid[bestCell] = 0;
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+package br.com.dio.solver;
+
+import br.com.dio.util.BoardCodec;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Algoritmo X com dancing links. O Sudoku vira uma cobertura exata com
+ * quatro famílias de colunas (posição preenchida, valor na linha, valor na
+ * coluna e valor no bloco) e uma linha por candidato compatível com as
+ * pistas. Os nós ficam em vetores de int em vez de objetos.
+ */
+public class ExactCoverSolver implements SolverStrategy {
+
+    private static final long CANCEL_CHECK_MASK = 0xFF;
+
+    @Override
+    public String name() {
+        return "exact-cover";
+    }
+
+    @Override
+    public boolean isComplete() {
+        return true;
+    }
+
+    @Override
+    public int[] solve(final int[] cells, final BooleanSupplier cancelled) {
+        var links = new Links(cells, cancelled);
+        return links.search(0) ? links.decode() : null;
+    }
+
+    private static final class Links {
+
+        private final int size;
+        private final int cellCount;
+        private final int[] left;
+        private final int[] right;
+        private final int[] up;
+        private final int[] down;
+        private final int[] column;
+        private final int[] candidate;
+        private final int[] columnSize;
+        private final int[] chosen;
+        private final BooleanSupplier cancelled;
+        private int nodeCount;
+        private long steps;
+        private boolean aborted;
+
+        private Links(final int[] cells, final BooleanSupplier cancelled) {
+            this.cancelled = cancelled;
+            size = BoardCodec.sizeOf(cells.length);
+            cellCount = cells.length;
+            var box = (int) Math.round(Math.sqrt(size));
+            var columns = 4 * cellCount;
+            var capacity = 1 + columns + 4 * cellCount * size;
+            left = new int[capacity];
+            right = new int[capacity];
+            up = new int[capacity];
+            down = new int[capacity];
+            column = new int[capacity];
+            candidate = new int[capacity];
+            columnSize = new int[columns + 1];
+            chosen = new int[cellCount];
+
+            for (int c = 0; c <= columns; c++) {
+                left[c] = c == 0 ? columns : c - 1;
+                right[c] = c == columns ? 0 : c + 1;
+                up[c] = c;
+                down[c] = c;
+                column[c] = c;
+            }
+            nodeCount = columns + 1;
+
+            for (int cell = 0; cell < cellCount; cell++) {
+                var col = cell / size;
+                var row = cell % size;
+                var b = (col / box) * box + row / box;
+                for (int v = 0; v < size; v++) {
+                    if (cells[cell] != 0 && cells[cell] != v + 1) continue;
+                    addRow(cell * size + v,
+                            1 + cell,
+                            1 + cellCount + row * size + v,
+                            1 + 2 * cellCount + col * size + v,
+                            1 + 3 * cellCount + b * size + v);
+                }
+            }
+        }
+
+        private void addRow(final int id, final int... columns) {
+            var first = nodeCount;
+            for (var c : columns) {
+                var node = nodeCount++;
+                column[node] = c;
+                candidate[node] = id;
+                up[node] = up[c];
+                down[node] = c;
+                down[up[c]] = node;
+                up[c] = node;
+                columnSize[c]++;
+                if (node == first) {
+                    left[node] = node;
+                    right[node] = node;
+                } else {
+                    left[node] = left[first];
+                    right[node] = first;
+                    right[left[first]] = node;
+                    left[first] = node;
+                }
+            }
+        }
+
+        private boolean search(final int depth) {
+            if (right[0] == 0) return true;
+            if ((++steps & CANCEL_CHECK_MASK) == 0 && cancelled.getAsBoolean()) {
+                aborted = true;
+            }
+            if (aborted) return false;
+
+            var best = right[0];
+            for (int c = right[best]; c != 0 && columnSize[best] > 1; c = right[c]) {
+                if (columnSize[c] < columnSize[best]) best = c;
+            }
+            if (columnSize[best] == 0) return false;
+
+            cover(best);
+            for (int r = down[best]; r != best; r = down[r]) {
+                chosen[depth] = r;
+                for (int j = right[r]; j != r; j = right[j]) cover(column[j]);
+                if (search(depth + 1)) return true;
+                if (aborted) return false;
+                for (int j = left[r]; j != r; j = left[j]) uncover(column[j]);
+            }
+            uncover(best);
+            return false;
+        }
+
+        private void cover(final int c) {
+            right[left[c]] = right[c];
+            left[right[c]] = left[c];
+            for (int i = down[c]; i != c; i = down[i]) {
+                for (int j = right[i]; j != i; j = right[j]) {
+                    down[up[j]] = down[j];
+                    up[down[j]] = up[j];
+                    columnSize[column[j]]--;
+                }
+            }
+        }
+
+        private void uncover(final int c) {
+            for (int i = up[c]; i != c; i = up[i]) {
+                for (int j = left[i]; j != i; j = left[j]) {
+                    columnSize[column[j]]++;
+                    down[up[j]] = j;
+                    up[down[j]] = j;
+                }
+            }
+            right[left[c]] = c;
+            left[right[c]] = c;
+        }
+
+        private int[] decode() {
+            var grid = new int[cellCount];
+            for (int i = 0; i < cellCount; i++) {
+                var id = candidate[chosen[i]];
+                grid[id / size] = id % size + 1;
+            }
+            return grid;
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package br.com.dio.solver;
+
+import br.com.dio.model.constraint.StandardRules;
+import br.com.dio.util.BoardCodec;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Só propagação lógica, sem tentativa e erro: singles "nus" (posição com um
+ * único candidato) e "escondidos" (valor com uma única posição possível na
+ * unidade). Resolve rapidamente a maioria dos puzzles fáceis e médios e
+ * desiste quando a propagação trava.
+ */
+public class LogicSolver implements SolverStrategy {
+
+    @Override
+    public String name() {
+        return "logic";
+    }
+
+    @Override
+    public int[] solve(final int[] cells, final BooleanSupplier cancelled) {
+        var size = BoardCodec.sizeOf(cells.length);
+        var box = (int) Math.round(Math.sqrt(size));
+        var units = StandardRules.INSTANCE.units(size);
+        var full = (1 << size) - 1;
+        var grid = cells.clone();
+        var rowMask = new int[size];
+        var colMask = new int[size];
+        var boxMask = new int[size];
+
+        for (int cell = 0; cell < grid.length; cell++) {
+            if (grid[cell] != 0 && !place(grid, cell, grid[cell], size, box, rowMask, colMask, boxMask)) {
+                return null;
+            }
+        }
+
+        var progress = true;
+        var empty = countEmpty(grid);
+        while (progress && empty > 0) {
+            if (cancelled.getAsBoolean()) return null;
+            progress = false;
+
+            for (int cell = 0; cell < grid.length; cell++) {
+                if (grid[cell] != 0) continue;
+                var candidates = full & ~used(cell, size, box, rowMask, colMask, boxMask);
+                if (candidates == 0) return null;
+                if (Integer.bitCount(candidates) == 1) {
+                    place(grid, cell, Integer.numberOfTrailingZeros(candidates) + 1, size, box, rowMask, colMask, boxMask);
+                    empty--;
+                    progress = true;
+                }
+            }
+
+            for (var unit : units) {
+                for (int value = 1; value <= size; value++) {
+                    var bit = 1 << (value - 1);
+                    var position = -1;
+                    var count = 0;
+                    for (var cell : unit) {
+                        if (grid[cell] == value) {
+                            count = -1;
+                            break;
+                        }
+                        if (grid[cell] == 0 && (used(cell, size, box, rowMask, colMask, boxMask) & bit) == 0) {
+                            position = cell;
+                            count++;
+                        }
+                    }
+                    if (count == 0) return null;
+                    if (count == 1) {
+                        place(grid, position, value, size, box, rowMask, colMask, boxMask);
+                        empty--;
+                        progress = true;
+                    }
+                }
+            }
+        }
+        return empty == 0 ? grid : null;
+    }
+
+    private static int used(final int cell, final int size, final int box,
+                            final int[] rowMask, final int[] colMask, final int[] boxMask) {
+        var col = cell / size;
+        var row = cell % size;
+        return colMask[col] | rowMask[row] | boxMask[(col / box) * box + row / box];
+    }
+
+    private static boolean place(final int[] grid, final int cell, final int value, final int size, final int box,
+                                 final int[] rowMask, final int[] colMask, final int[] boxMask) {
+        var bit = 1 << (value - 1);
+        if ((used(cell, size, box, rowMask, colMask, boxMask) & bit) != 0) {
+            return false;
+        }
+        var col = cell / size;
+        var row = cell % size;
+        grid[cell] = value;
+        colMask[col] |= bit;
+        rowMask[row] |= bit;
+        boxMask[(col / box) * box + row / box] |= bit;
+        return true;
+    }
+
+    private static int countEmpty(final int[] grid) {
+        var empty = 0;
+        for (var value : grid) {
+            if (value == 0) empty++;
+        }
+        return empty;
+    }
+
+}
@@ -0,0 +1,167 @@
+package br.com.dio.solver;
+
+import br.com.dio.model.Board;
+import br.com.dio.model.constraint.StandardRules;
+import br.com.dio.util.BoardCodec;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Corrida entre estratégias num pool limitado: a primeira solução vence e as
+ * demais são avisadas pelo sinal de cancelamento. Quando há menos threads do
+ * que estratégias, o {@link StrategySelector} decide a ordem de largada com
+ * base no que aprendeu sobre puzzles parecidos, e cada estratégia que desiste
+ * libera a vaga para a próxima da fila.
+ * <p>
+ * A corrida também termina quando uma estratégia completa prova que não há
+ * solução ou quando o prazo total se esgota; o prazo entra no sinal de
+ * cancelamento para que estratégias estocásticas não prendam o pool.
+ */
+public class PortfolioSolver implements AutoCloseable {
+
+    private static final Duration DEFAULT_LIMIT = Duration.ofSeconds(30);
+
+    private final List<SolverStrategy> strategies;
+    private final int parallelism;
+    private final long limitNanos;
+    private final ExecutorService executor;
+    private final StrategySelector selector = new StrategySelector();
+
+    public PortfolioSolver() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public PortfolioSolver(final int parallelism) {
+        this(parallelism, List.of(new LogicSolver(), new BacktrackingSolver(),
+                new ExactCoverSolver(), new AnnealingSolver(1, 42)), DEFAULT_LIMIT);
+    }
+
+    public PortfolioSolver(final int parallelism, final List<SolverStrategy> strategies, final Duration limit) {
+        this.strategies = List.copyOf(strategies);
+        this.parallelism = parallelism;
+        this.limitNanos = limit.toNanos();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            var thread = new Thread(runnable, "portfolio");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sem solução, {@code unsolvable} diz se alguma estratégia completa provou
+     * que ela não existe; caso contrário o prazo se esgotou ou todas desistiram.
+     */
+    public record Result(int[] solution, String strategy, long nanos, boolean unsolvable) {
+    }
+
+    /**
+     * Tabuleiros com regras além das clássicas correm só com o
+     * {@link ConstraintSolver}, a única estratégia que conhece as variantes,
+     * mas no mesmo pool e com o mesmo prazo.
+     */
+    public Result solve(final Board board) throws InterruptedException {
+        var clues = BoardCodec.clues(board);
+        if (!board.getConstraints().equals(List.of(StandardRules.INSTANCE))) {
+            return race(List.of(new ConstraintSolver(board.getCompiledConstraints())), clues, new ArrayList<>(), new ArrayList<>());
+        }
+        return solve(clues);
+    }
+
+    public Result solve(final int[] cells) throws InterruptedException {
+        var features = PuzzleFeatures.of(cells);
+        List<String> started = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        var result = race(selector.order(features, strategies), cells, started, failed);
+
+        List<String> cancelled = new ArrayList<>(started);
+        cancelled.removeAll(failed);
+        if (result.strategy() != null) {
+            cancelled.remove(result.strategy());
+        }
+        selector.record(features, result.solution() == null ? null : result.strategy(), result.nanos(), failed, cancelled);
+        return result;
+    }
+
+    public StrategySelector getSelector() {
+        return selector;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private Result race(final List<SolverStrategy> queue, final int[] cells,
+                        final List<String> started, final List<String> failed) throws InterruptedException {
+        var start = System.nanoTime();
+        var deadline = start + limitNanos;
+        var cancel = new AtomicBoolean();
+        BooleanSupplier cancelled = () -> cancel.get() || System.nanoTime() - deadline > 0;
+        CompletionService<Result> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Result>> running = new ArrayList<>();
+
+        var next = 0;
+        while (next < queue.size() && running.size() < parallelism) {
+            running.add(submit(completion, queue.get(next++), cells, cancelled, started));
+        }
+
+        Result winner = null;
+        try {
+            while (winner == null && !running.isEmpty()) {
+                var future = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (future == null) break;
+
+                running.remove(future);
+                var result = result(future);
+                if (result.solution() != null || result.unsolvable()) {
+                    winner = result;
+                } else {
+                    failed.add(result.strategy());
+                    if (next < queue.size()) {
+                        running.add(submit(completion, queue.get(next++), cells, cancelled, started));
+                    }
+                }
+            }
+        } finally {
+            cancel.set(true);
+            running.forEach(f -> f.cancel(false));
+        }
+
+        var elapsed = System.nanoTime() - start;
+        return winner == null
+                ? new Result(null, null, elapsed, false)
+                : new Result(winner.solution(), winner.strategy(), elapsed, winner.unsolvable());
+    }
+
+    private static Future<Result> submit(final CompletionService<Result> completion, final SolverStrategy strategy,
+                                         final int[] cells, final BooleanSupplier cancelled, final List<String> started) {
+        started.add(strategy.name());
+        return completion.submit(() -> {
+            var start = System.nanoTime();
+            var solution = strategy.solve(cells, cancelled);
+            // O sinal só muda de falso para verdadeiro: se ainda está falso, a busca não foi interrompida
+            var unsolvable = solution == null && strategy.isComplete() && !cancelled.getAsBoolean();
+            return new Result(solution, strategy.name(), System.nanoTime() - start, unsolvable);
+        });
+    }
+
+    private static Result result(final Future<Result> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha na estratégia de resolução", e.getCause());
+        }
+    }
+
+}
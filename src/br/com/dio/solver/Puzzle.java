@@ -0,0 +1,21 @@
+package br.com.dio.solver;
+
+import br.com.dio.model.Board;
+import br.com.dio.util.BoardCodec;
+
+public record Puzzle(int[] clues, int[] solution) {
+
+    public Board toBoard() {
+        return BoardCodec.toBoard(clues, solution);
+    }
+
+    public String toLine() {
+        return BoardCodec.format(clues) + ";" + BoardCodec.format(solution);
+    }
+
+    public static Puzzle fromLine(final String line) {
+        var parts = line.split(";");
+        return new Puzzle(BoardCodec.parse(parts[0]), BoardCodec.parse(parts[1]));
+    }
+
+}
@@ -0,0 +1,47 @@
+package br.com.dio.solver;
+
+import br.com.dio.util.BoardCodec;
+
+/**
+ * Características baratas de um puzzle, calculadas em uma passada: proporção
+ * de pistas e densidade média de candidatos nas posições vazias (0 = tudo
+ * forçado, 1 = nenhuma restrição).
+ */
+public record PuzzleFeatures(int size, double clueRatio, double candidateDensity) {
+
+    public static PuzzleFeatures of(final int[] cells) {
+        var size = BoardCodec.sizeOf(cells.length);
+        var box = (int) Math.round(Math.sqrt(size));
+        var rowMask = new int[size];
+        var colMask = new int[size];
+        var boxMask = new int[size];
+        var clues = 0;
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] == 0) continue;
+            var bit = 1 << (cells[cell] - 1);
+            var col = cell / size;
+            var row = cell % size;
+            colMask[col] |= bit;
+            rowMask[row] |= bit;
+            boxMask[(col / box) * box + row / box] |= bit;
+            clues++;
+        }
+
+        var candidates = 0L;
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] != 0) continue;
+            var col = cell / size;
+            var row = cell % size;
+            candidates += size - Integer.bitCount(colMask[col] | rowMask[row] | boxMask[(col / box) * box + row / box]);
+        }
+        var empty = cells.length - clues;
+        var density = empty == 0 ? 0 : (double) candidates / ((long) empty * size);
+        return new PuzzleFeatures(size, (double) clues / cells.length, density);
+    }
+
+    /** Faixa usada para agrupar puzzles parecidos no aprendizado. */
+    public String bucket() {
+        return "%d:%d:%d".formatted(size, (int) (clueRatio * 10), (int) (candidateDensity * 5));
+    }
+
+}
@@ -0,0 +1,102 @@
+package br.com.dio.solver;
+
+import java.util.Random;
+
+/**
+ * Gera puzzles de forma determinística a partir de uma semente: a mesma
+ * semente sempre produz o mesmo puzzle, o que permite dividir a geração
+ * em faixas de sementes entre vários processos.
+ */
+public class PuzzleGenerator {
+
+    private final int size;
+
+    public PuzzleGenerator() {
+        this(9);
+    }
+
+    public PuzzleGenerator(final int size) {
+        this.size = size;
+    }
+
+    public Puzzle generate(final long seed) {
+        var random = new Random(seed);
+        var solution = solvedGrid(random);
+        var clues = solution.clone();
+        var checker = new BacktrackingSolver();
+
+        // Remove posições em ordem aleatória enquanto a solução continuar única
+        for (var cell : shuffledCells(random)) {
+            var value = clues[cell];
+            clues[cell] = 0;
+            if (checker.countSolutions(clues, 2) != 1) {
+                clues[cell] = value;
+            }
+        }
+        return new Puzzle(clues, solution);
+    }
+
+    /**
+     * Puzzle esparso sem verificação de unicidade, útil para grades grandes
+     * em que a verificação é cara demais.
+     */
+    public Puzzle generateSparse(final long seed, final double clueRatio) {
+        var random = new Random(seed);
+        var solution = solvedGrid(random);
+        var clues = solution.clone();
+        var keep = (int) Math.round(clues.length * clueRatio);
+        var cells = shuffledCells(random);
+        for (int i = keep; i < cells.length; i++) {
+            clues[cells[i]] = 0;
+        }
+        return new Puzzle(clues, solution);
+    }
+
+    private int[] solvedGrid(final Random random) {
+        var box = (int) Math.round(Math.sqrt(size));
+        // Padrão base válido embaralhado por faixas, pilhas, linhas, colunas e símbolos
+        var cols = shuffledLines(random, box);
+        var rows = shuffledLines(random, box);
+        var symbols = permutation(random, size);
+        var grid = new int[size * size];
+        for (int col = 0; col < size; col++) {
+            for (int row = 0; row < size; row++) {
+                var c = cols[col];
+                var r = rows[row];
+                grid[col * size + row] = symbols[(box * (c % box) + c / box + r) % size] + 1;
+            }
+        }
+        return grid;
+    }
+
+    private int[] shuffledLines(final Random random, final int box) {
+        var groups = permutation(random, box);
+        var lines = new int[size];
+        for (int g = 0; g < box; g++) {
+            var inner = permutation(random, box);
+            for (int i = 0; i < box; i++) {
+                lines[g * box + i] = groups[g] * box + inner[i];
+            }
+        }
+        return lines;
+    }
+
+    private int[] shuffledCells(final Random random) {
+        return permutation(random, size * size);
+    }
+
+    private static int[] permutation(final Random random, final int length) {
+        var cells = new int[length];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = i;
+        }
+        for (int i = cells.length - 1; i > 0; i--) {
+            var j = random.nextInt(i + 1);
+            var tmp = cells[i];
+            cells[i] = cells[j];
+            cells[j] = tmp;
+        }
+        return cells;
+    }
+
+}
@@ -0,0 +1,24 @@
+package br.com.dio.solver;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Estratégia de resolução que pode ser interrompida: o sinal de cancelamento
+ * deve ser consultado com frequência e, quando ativo, a estratégia desiste
+ * devolvendo {@code null}, o mesmo retorno de quando não encontra solução.
+ */
+public interface SolverStrategy {
+
+    String name();
+
+    int[] solve(int[] cells, BooleanSupplier cancelled);
+
+    /**
+     * Estratégias completas exploram todo o espaço de busca: um {@code null}
+     * devolvido sem cancelamento prova que o puzzle não tem solução.
+     */
+    default boolean isComplete() {
+        return false;
+    }
+
+}
@@ -0,0 +1,52 @@
+package br.com.dio.solver;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aprende, por faixa de {@link PuzzleFeatures}, qual estratégia costuma
+ * terminar primeiro. Cada estratégia guarda uma média móvel exponencial da
+ * latência observada; estratégias ainda não vistas na faixa vêm antes, para
+ * que sejam experimentadas.
+ */
+public class StrategySelector {
+
+    private static final double ALPHA = 0.2;
+    private static final double FAILURE_FACTOR = 10;
+    private static final double CANCELLED_FACTOR = 2;
+
+    private final Map<String, Map<String, Double>> latencyByBucket = new ConcurrentHashMap<>();
+
+    public List<SolverStrategy> order(final PuzzleFeatures features, final List<SolverStrategy> strategies) {
+        var latencies = latencyByBucket.getOrDefault(features.bucket(), Map.of());
+        List<SolverStrategy> ordered = new ArrayList<>(strategies);
+        ordered.sort(Comparator.comparingDouble(s -> latencies.getOrDefault(s.name(), 0.0)));
+        return ordered;
+    }
+
+    /**
+     * Quem falhou recebe uma latência bem maior que a do vencedor; quem foi
+     * cancelado recebe o dobro, já que só se sabe que seria mais lento.
+     */
+    public void record(final PuzzleFeatures features, final String winner, final long winnerNanos,
+                       final List<String> failed, final List<String> cancelled) {
+        var latencies = latencyByBucket.computeIfAbsent(features.bucket(), b -> new ConcurrentHashMap<>());
+        if (winner != null) {
+            observe(latencies, winner, winnerNanos);
+        }
+        for (var name : failed) {
+            observe(latencies, name, Math.max(winnerNanos, 1) * FAILURE_FACTOR);
+        }
+        for (var name : cancelled) {
+            observe(latencies, name, Math.max(winnerNanos, 1) * CANCELLED_FACTOR);
+        }
+    }
+
+    private static void observe(final Map<String, Double> latencies, final String name, final double nanos) {
+        latencies.merge(name, nanos, (old, sample) -> old + ALPHA * (sample - old));
+    }
+
+}
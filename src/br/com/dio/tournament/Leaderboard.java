@@ -0,0 +1,113 @@
+package br.com.dio.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Classificação ao vivo sem lock global.
+ * <p>
+ * Os resultados ficam ordenados numa {@link ConcurrentSkipListSet}, o que
+ * deixa o top-N a N passos do início da lista. Para a posição de um jogador
+ * existe ainda uma árvore de Fenwick sobre faixas de pontuação, atualizada
+ * com operações atômicas: a posição é a quantidade de resultados nas faixas
+ * anteriores mais os que estão à frente dentro da mesma faixa.
+ * <p>
+ * As faixas são limitadas a {@value #MAX_LINEAR_BUCKETS} de largura fixa até
+ * a pontuação máxima esperada (em torneios longos a largura pedida aumenta),
+ * seguidas de {@value #OVERFLOW_BUCKETS} faixas que dobram de largura: as
+ * penalidades por erro podem passar do máximo, e essas pontuações continuam
+ * espalhadas em vez de caírem todas na última faixa.
+ */
+public class Leaderboard {
+
+    static final int MAX_LINEAR_BUCKETS = 1 << 17;
+    static final int OVERFLOW_BUCKETS = 64;
+
+    private final long bucketMillis;
+    private final int linearBuckets;
+    private final long linearLimit;
+    private final int buckets;
+    private final AtomicLongArray tree;
+    private final ConcurrentSkipListSet<Standing> ranking = new ConcurrentSkipListSet<>(Standing.ORDER);
+    private final Map<String, Standing> byPlayer = new ConcurrentHashMap<>();
+
+    public Leaderboard(final long maxScoreMillis, final long bucketMillis) {
+        var range = Math.max(1, maxScoreMillis + 1);
+        this.bucketMillis = Math.max(bucketMillis, Math.ceilDiv(range, MAX_LINEAR_BUCKETS));
+        this.linearBuckets = (int) Math.ceilDiv(range, this.bucketMillis);
+        this.linearLimit = linearBuckets * this.bucketMillis;
+        this.buckets = linearBuckets + OVERFLOW_BUCKETS;
+        this.tree = new AtomicLongArray(buckets + 1);
+    }
+
+    public boolean add(final Standing standing) {
+        if (standing.score() < 0) {
+            // Rejeitado antes de qualquer escrita para não deixar as estruturas divergentes
+            throw new IllegalArgumentException("Pontuação negativa: " + standing.score());
+        }
+        if (byPlayer.putIfAbsent(standing.playerId(), standing) != null) {
+            return false;
+        }
+        ranking.add(standing);
+        for (int i = bucketOf(standing.score()) + 1; i <= buckets; i += i & -i) {
+            tree.incrementAndGet(i);
+        }
+        return true;
+    }
+
+    public List<Standing> top(final int count) {
+        List<Standing> top = new ArrayList<>(count);
+        var iterator = ranking.iterator();
+        while (top.size() < count && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    /** Posição do jogador a partir de 1, ou -1 se ele ainda não terminou. */
+    public long rankOf(final String playerId) {
+        var standing = byPlayer.get(playerId);
+        if (isNull(standing)) {
+            return -1;
+        }
+
+        var bucket = bucketOf(standing.score());
+        var bucketStart = new Standing("", 0, 0, bucketStart(bucket), Long.MIN_VALUE);
+        return countBefore(bucket) + ranking.subSet(bucketStart, standing).size() + 1;
+    }
+
+    public Standing get(final String playerId) {
+        return byPlayer.get(playerId);
+    }
+
+    public int size() {
+        return byPlayer.size();
+    }
+
+    private long countBefore(final int bucket) {
+        var count = 0L;
+        for (int i = bucket; i > 0; i -= i & -i) {
+            count += tree.get(i);
+        }
+        return count;
+    }
+
+    private int bucketOf(final long score) {
+        if (score < linearLimit) {
+            return (int) (score / bucketMillis);
+        }
+        var doublings = 63 - Long.numberOfLeadingZeros(score / linearLimit);
+        return linearBuckets + Math.min(doublings, OVERFLOW_BUCKETS - 1);
+    }
+
+    private long bucketStart(final int bucket) {
+        return bucket < linearBuckets ? bucket * bucketMillis : linearLimit << (bucket - linearBuckets);
+    }
+
+}
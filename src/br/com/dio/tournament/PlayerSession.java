@@ -0,0 +1,53 @@
+package br.com.dio.tournament;
+
+import br.com.dio.model.Board;
+
+import java.time.Instant;
+
+public class PlayerSession {
+
+    private final String playerId;
+    private final Board board;
+    private final Instant startedAt;
+    private Instant finishedAt;
+    private int errors;
+
+    PlayerSession(final String playerId, final Board board, final Instant startedAt) {
+        this.playerId = playerId;
+        this.board = board;
+        this.startedAt = startedAt;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public synchronized Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    synchronized boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    synchronized void addError() {
+        errors++;
+    }
+
+    synchronized void finish(final Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+}
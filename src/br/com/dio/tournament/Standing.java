@@ -0,0 +1,16 @@
+package br.com.dio.tournament;
+
+import java.util.Comparator;
+
+/**
+ * Resultado de um jogador que concluiu o puzzle. A pontuação é o tempo em
+ * milissegundos somado à penalidade por erro: quanto menor, melhor. Empates
+ * são decididos pela ordem de chegada.
+ */
+public record Standing(String playerId, long elapsedMillis, int errors, long score, long sequence) {
+
+    static final Comparator<Standing> ORDER = Comparator.comparingLong(Standing::score)
+            .thenComparingLong(Standing::sequence)
+            .thenComparing(Standing::playerId);
+
+}
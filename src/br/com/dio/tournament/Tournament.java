@@ -0,0 +1,135 @@
+package br.com.dio.tournament;
+
+import br.com.dio.model.Board;
+import br.com.dio.model.PuzzleTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Competição cronometrada: todos os jogadores recebem o mesmo puzzle, cada
+ * jogada errada soma uma penalidade ao tempo e quem conclui entra na
+ * classificação ao vivo.
+ */
+public class Tournament {
+
+    private static final Duration DEFAULT_ERROR_PENALTY = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_MAX_DURATION = Duration.ofHours(4);
+    private static final long BUCKET_MILLIS = 10;
+
+    private final PuzzleTemplate puzzle;
+    private final InstantSource clock;
+    private final long errorPenaltyMillis;
+    private final Map<String, PlayerSession> players = new ConcurrentHashMap<>();
+    private final Leaderboard leaderboard;
+    private final AtomicLong finishSequence = new AtomicLong();
+
+    public Tournament(final PuzzleTemplate puzzle) {
+        this(puzzle, monotonicClock(), DEFAULT_ERROR_PENALTY, DEFAULT_MAX_DURATION);
+    }
+
+    /**
+     * O tempo de cada jogador é a diferença entre dois instantes de
+     * {@code clock}, que não deve andar para trás; o relógio padrão é ancorado
+     * em {@link System#nanoTime()} por isso. Mesmo assim, tempos negativos são
+     * tratados como zero.
+     */
+    public Tournament(final PuzzleTemplate puzzle, final InstantSource clock,
+                      final Duration errorPenalty, final Duration maxDuration) {
+        if (errorPenalty.isNegative()) {
+            throw new IllegalArgumentException("A penalidade por erro não pode ser negativa");
+        }
+        this.puzzle = puzzle;
+        this.clock = clock;
+        this.errorPenaltyMillis = errorPenalty.toMillis();
+        this.leaderboard = new Leaderboard(maxDuration.toMillis(), BUCKET_MILLIS);
+    }
+
+    public PlayerSession join(final String playerId) {
+        return players.computeIfAbsent(playerId, id -> new PlayerSession(id, new Board(puzzle), clock.instant()));
+    }
+
+    /**
+     * Registra uma jogada. Valores diferentes da solução contam como erro, mas
+     * ficam no tabuleiro como no jogo normal. Como a solução já respeita as
+     * regras, um valor certo nunca é erro, mesmo ao lado de um erro anterior.
+     */
+    public boolean play(final String playerId, final int col, final int row, final int value) {
+        var session = session(playerId);
+        synchronized (session) {
+            if (session.isFinished()) return false;
+
+            var board = session.getBoard();
+            var correct = value == board.getExpected(col, row);
+            if (!board.changeValue(col, row, value)) {
+                return false;
+            }
+            if (!correct) {
+                session.addError();
+            }
+            return correct;
+        }
+    }
+
+    /** Conclui o jogo se o tabuleiro estiver completo e sem erros. */
+    public boolean submit(final String playerId) {
+        var session = session(playerId);
+        Standing standing;
+        synchronized (session) {
+            if (session.isFinished()) return true;
+            if (!session.getBoard().gameIsFinished()) {
+                return false;
+            }
+
+            var finishedAt = clock.instant();
+            session.finish(finishedAt);
+            var elapsed = Math.max(0, Duration.between(session.getStartedAt(), finishedAt).toMillis());
+            var score = elapsed + session.getErrors() * errorPenaltyMillis;
+            standing = new Standing(playerId, elapsed, session.getErrors(), score, finishSequence.incrementAndGet());
+        }
+        leaderboard.add(standing);
+        return true;
+    }
+
+    public List<Standing> top(final int count) {
+        return leaderboard.top(count);
+    }
+
+    public long rankOf(final String playerId) {
+        return leaderboard.rankOf(playerId);
+    }
+
+    public PlayerSession getSession(final String playerId) {
+        return players.get(playerId);
+    }
+
+    public int playerCount() {
+        return players.size();
+    }
+
+    public int finishedCount() {
+        return leaderboard.size();
+    }
+
+    private static InstantSource monotonicClock() {
+        var origin = Instant.now();
+        var nanoOrigin = System.nanoTime();
+        return () -> origin.plusNanos(System.nanoTime() - nanoOrigin);
+    }
+
+    private PlayerSession session(final String playerId) {
+        var session = players.get(playerId);
+        if (isNull(session)) {
+            throw new IllegalStateException("Jogador %s não entrou no torneio".formatted(playerId));
+        }
+        return session;
+    }
+
+}
@@ -0,0 +1,105 @@
+package br.com.dio.util;
+
+import br.com.dio.model.Board;
+import br.com.dio.model.PuzzleTemplate;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Conversão entre {@link Board} e o formato compacto de uma linha:
+ * uma posição por caractere, '.' ou '0' para vazio e "1-9A-P" para os valores
+ * (suporta tabuleiros até 25x25). A célula {@code col,row} fica no índice
+ * {@code col * tamanho + row}, a mesma ordem de {@link Board#getSpaces()}.
+ */
+public final class BoardCodec {
+
+    private static final String DIGITS = "123456789ABCDEFGHIJKLMNOP";
+
+    private BoardCodec() {}
+
+    public static int[] parse(final String compact) {
+        var text = compact.trim();
+        var size = sizeOf(text.length());
+        var cells = new int[size * size];
+        for (int i = 0; i < cells.length; i++) {
+            var ch = Character.toUpperCase(text.charAt(i));
+            if (ch == '.' || ch == '0') continue;
+
+            var value = DIGITS.indexOf(ch) + 1;
+            if (value == 0 || value > size) {
+                throw new IllegalArgumentException("Valor inválido '%s' na posição %s".formatted(ch, i));
+            }
+            cells[i] = value;
+        }
+        return cells;
+    }
+
+    public static String format(final int[] cells) {
+        var builder = new StringBuilder(cells.length);
+        for (var value : cells) {
+            builder.append(value == 0 ? '.' : DIGITS.charAt(value - 1));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Formato binário de até 15 valores por posição: duas posições por byte,
+     * a posição par no nibble baixo. Valores acima do tamanho do tabuleiro
+     * não são verificados aqui.
+     */
+    public static int[] unpackNibbles(final byte[] data, final int offset, final int cellCount) {
+        var cells = new int[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            cells[cell] = (data[offset + (cell >>> 1)] >>> ((cell & 1) << 2)) & 0xF;
+        }
+        return cells;
+    }
+
+    public static void packNibbles(final int[] cells, final byte[] data, final int offset) {
+        for (int cell = 0; cell < cells.length; cell++) {
+            var index = offset + (cell >>> 1);
+            var shift = (cell & 1) << 2;
+            data[index] = (byte) ((data[index] & ~(0xF << shift)) | ((cells[cell] & 0xF) << shift));
+        }
+    }
+
+    public static int sizeOf(final int cellCount) {
+        var size = (int) Math.round(Math.sqrt(cellCount));
+        var box = (int) Math.round(Math.sqrt(size));
+        if (box < 2 || size * size != cellCount || box * box != size || size > DIGITS.length()) {
+            throw new IllegalArgumentException("Quantidade de posições inválida: " + cellCount);
+        }
+        return size;
+    }
+
+    public static int[] clues(final Board board) {
+        var size = board.getSize();
+        var cells = new int[size * size];
+        for (int col = 0; col < size; col++) {
+            for (int row = 0; row < size; row++) {
+                if (board.isFixed(col, row)) {
+                    cells[col * size + row] = board.getExpected(col, row);
+                }
+            }
+        }
+        return cells;
+    }
+
+    public static int[] values(final Board board) {
+        var size = board.getSize();
+        var cells = new int[size * size];
+        for (int col = 0; col < size; col++) {
+            for (int row = 0; row < size; row++) {
+                var actual = board.getActual(col, row);
+                cells[col * size + row] = nonNull(actual) ? actual : 0;
+            }
+        }
+        return cells;
+    }
+
+    public static Board toBoard(final int[] clues, final int[] solution) {
+        sizeOf(clues.length);
+        return new Board(PuzzleTemplate.of(clues, solution));
+    }
+
+}